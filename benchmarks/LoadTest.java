@@ -0,0 +1,340 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Prueba de carga de la API con una mezcla de operaciones.
+ * Se ejecuta como archivo fuente unico (Java 21), sin dependencias:
+ *
+ *   java benchmarks/LoadTest.java --concurrency 64 --duration 60 --users 1000 --tasks 1000000
+ *
+ * Cada worker corre en un hilo virtual y repite operaciones elegidas al azar segun --mix.
+ * Sin --rate el ciclo es cerrado (cada worker espera su respuesta antes de la siguiente).
+ * Con --rate las peticiones se programan a ritmo fijo y la latencia se mide desde el
+ * instante programado, para no ocultar la espera cuando el servidor se atrasa
+ * (coordinated omission).
+ * Al final imprime por endpoint: peticiones, errores, throughput y p50/p95/p99/max.
+ */
+public class LoadTest {
+
+    enum Operation { LIST, FILTER, SEARCH, STATS, CREATE, BATCH, STATUS, LOGIN }
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final int BATCH_SIZE = 100;
+    private static final String[] SEARCH_TERMS = {"login", "reporte", "deploy", "bug", "migracion", "pagos", "factur"};
+
+    private final String baseUrl;
+    private final int users;
+    private final int tasks;
+    private final double skew;
+    private final String password;
+    private final Map<Operation, Integer> mix;
+    private final HttpClient client;
+
+    private LoadTest(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.users = Integer.parseInt(options.getOrDefault("users", "1000"));
+        this.tasks = Integer.parseInt(options.getOrDefault("tasks", "1000000"));
+        this.skew = Double.parseDouble(options.getOrDefault("skew", "3"));
+        this.password = options.getOrDefault("password", "password123");
+        this.mix = parseMix(options.getOrDefault("mix", "list=25,filter=25,search=10,stats=10,create=10,status=15,login=5"));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        double rate = Double.parseDouble(options.getOrDefault("rate", "0"));
+
+        LoadTest test = new LoadTest(options);
+        System.out.printf(Locale.ROOT, "Objetivo %s, %d workers, %s, mezcla %s%n",
+                test.baseUrl, concurrency, rate > 0 ? rate + " req/s" : "ciclo cerrado", test.mix);
+
+        if (warmupSeconds > 0) {
+            System.out.printf("Calentamiento %ds...%n", warmupSeconds);
+            test.run(concurrency, warmupSeconds, rate);
+        }
+        System.out.printf("Medicion %ds...%n", durationSeconds);
+        Map<Operation, Recorder> results = test.run(concurrency, durationSeconds, rate);
+
+        report(results, durationSeconds, System.out);
+        if (options.containsKey("out")) {
+            Files.writeString(Path.of(options.get("out")), toJson(results, durationSeconds));
+        }
+    }
+
+    private Map<Operation, Recorder> run(int concurrency, int durationSeconds, double rate) throws InterruptedException {
+        List<Map<Operation, Recorder>> perWorker = new ArrayList<>();
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long intervalNanos = rate > 0 ? (long) (concurrency * 1_000_000_000L / rate) : 0;
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+                for (Operation operation : Operation.values()) {
+                    recorders.put(operation, new Recorder());
+                }
+                perWorker.add(recorders);
+                // Con --rate cada worker arranca desfasado para repartir las llegadas
+                long firstStart = start + (intervalNanos * worker) / Math.max(1, concurrency);
+                workers.execute(() -> work(recorders, firstStart, deadline, intervalNanos));
+            }
+        }
+
+        Map<Operation, Recorder> merged = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            Recorder total = new Recorder();
+            perWorker.forEach(recorders -> total.merge(recorders.get(operation)));
+            merged.put(operation, total);
+        }
+        return merged;
+    }
+
+    private void work(Map<Operation, Recorder> recorders, long firstStart, long deadline, long intervalNanos) {
+        long scheduled = firstStart;
+        while (true) {
+            long begin;
+            if (intervalNanos > 0) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                begin = scheduled;
+                scheduled += intervalNanos;
+            } else {
+                begin = System.nanoTime();
+            }
+            if (begin >= deadline) {
+                return;
+            }
+
+            Operation operation = pick();
+            int status;
+            try {
+                status = client.send(request(operation), HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException exception) {
+                status = -1;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            recorders.get(operation).record(System.nanoTime() - begin, status);
+        }
+    }
+
+    private Operation pick() {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = ThreadLocalRandom.current().nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Mezcla vacia");
+    }
+
+    private HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST -> get("/api/tasks?page=" + pageNumber(random) + "&size=20");
+            case FILTER -> get(filterQuery(random));
+            case SEARCH -> get("/api/tasks?size=20&search=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)]);
+            case STATS -> get("/api/tasks/stats");
+            case CREATE -> post("/api/tasks", newTask(random));
+            case BATCH -> {
+                StringBuilder body = new StringBuilder("[");
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    body.append(i > 0 ? "," : "").append(newTask(random));
+                }
+                yield post("/api/tasks/batch", body.append(']').toString());
+            }
+            case STATUS -> HttpRequest.newBuilder(uri("/api/tasks/" + (1 + random.nextInt(tasks)) + "/status"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}"))
+                    .build();
+            case LOGIN -> post("/api/auth/login", """
+                    {"email":"user%d@example.com","password":"%s"}""".formatted(assignee(random), password));
+        };
+    }
+
+    private String newTask(ThreadLocalRandom random) {
+        return """
+                {"title":"Tarea de carga %d","description":"Creada por LoadTest","status":"TODO","priority":"%s","dueDate":"%s","assigneeId":%d}"""
+                .formatted(random.nextInt(1_000_000), PRIORITIES[random.nextInt(PRIORITIES.length)],
+                        LocalDate.now().plusDays(random.nextInt(1, 60)), assignee(random));
+    }
+
+    /* La mayoria de los usuarios mira las primeras paginas */
+    private int pageNumber(ThreadLocalRandom random) {
+        return random.nextDouble() < 0.8 ? 0 : random.nextInt(1, 50);
+    }
+
+    private String filterQuery(ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/api/tasks?size=20&assigneeId=").append(assignee(random));
+        if (random.nextBoolean()) {
+            query.append("&status=").append(STATUSES[random.nextInt(STATUSES.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            query.append("&priority=").append(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        }
+        if (random.nextInt(4) == 0) {
+            LocalDate from = LocalDate.now().minusDays(random.nextInt(60));
+            query.append("&dueFrom=").append(from).append("&dueTo=").append(from.plusDays(14));
+        }
+        return query.toString();
+    }
+
+    /* Misma ley de potencia que seed_tasks.sql: los usuarios con mas tareas reciben mas trafico */
+    private long assignee(ThreadLocalRandom random) {
+        return 1 + (long) Math.floor(users * Math.pow(random.nextDouble(), skew));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static void report(Map<Operation, Recorder> results, int durationSeconds, PrintStream out) {
+        out.printf("%-8s %9s %8s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errores", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        Recorder total = new Recorder();
+        for (Map.Entry<Operation, Recorder> entry : results.entrySet()) {
+            if (entry.getValue().count > 0) {
+                printRow(out, entry.getKey().name(), entry.getValue(), durationSeconds);
+                total.merge(entry.getValue());
+            }
+        }
+        printRow(out, "TOTAL", total, durationSeconds);
+        if (!total.statusCounts.isEmpty()) {
+            out.println("Codigos de estado: " + total.statusCounts);
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Recorder recorder, int durationSeconds) {
+        out.printf(Locale.ROOT, "%-8s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                name, recorder.count, recorder.errors, recorder.count / (double) durationSeconds,
+                recorder.percentileMillis(50), recorder.percentileMillis(95), recorder.percentileMillis(99),
+                recorder.percentileMillis(100));
+    }
+
+    private static String toJson(Map<Operation, Recorder> results, int durationSeconds) {
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<Operation, Recorder> entry : results.entrySet()) {
+            Recorder recorder = entry.getValue();
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(String.format(Locale.ROOT,
+                    "\"%s\":{\"requests\":%d,\"errors\":%d,\"throughput\":%.2f,\"p50\":%.3f,\"p95\":%.3f,\"p99\":%.3f,\"max\":%.3f}",
+                    entry.getKey().name().toLowerCase(Locale.ROOT), recorder.count, recorder.errors,
+                    recorder.count / (double) durationSeconds, recorder.percentileMillis(50), recorder.percentileMillis(95),
+                    recorder.percentileMillis(99), recorder.percentileMillis(100)));
+        }
+        return json.append("}\n").toString();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Argumento invalido: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene operaciones: " + value);
+        }
+        return mix;
+    }
+
+    /* Latencias de un worker (sin sincronizacion: cada worker tiene las suyas y se combinan al final) */
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        private final Map<Integer, Integer> statusCounts = new TreeMap<>();
+
+        void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+            statusCounts.merge(status, 1, Integer::sum);
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            other.statusCounts.forEach((status, total) -> statusCounts.merge(status, total, Integer::sum));
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+#
+# Bytes en la red de GET /api/tasks por formato, forma de la respuesta y compresión.
+#
+#   benchmarks/payload_sizes.sh [size]     # por defecto páginas de 100 tareas
+#
+# Necesita la aplicación corriendo (BASE_URL, por defecto http://localhost:8080).
+# Para cada combinación imprime los bytes recibidos (sin descomprimir) y el tiempo total.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+SIZE="${1:-100}"
+
+printf "%-28s %-10s %-6s %10s %8s\n" "formato" "envelope" "gzip" "bytes" "ms"
+for accept in application/json application/x-jackson-smile application/cbor; do
+    for envelope in embedded normalized; do
+        query="size=${SIZE}"
+        [[ "$envelope" == normalized ]] && query="${query}&envelope=normalized"
+        for encoding in identity gzip; do
+            read -r bytes seconds < <(curl -s -o /dev/null \
+                -H "Accept: ${accept}" -H "Accept-Encoding: ${encoding}" \
+                -w "%{size_download} %{time_total}\n" "${BASE_URL}/api/tasks?${query}")
+            printf "%-28s %-10s %-6s %10s %8.1f\n" "$accept" "$envelope" "$encoding" "$bytes" \
+                "$(echo "$seconds * 1000" | bc -l)"
+        done
+    done
+done
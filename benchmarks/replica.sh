@@ -0,0 +1,53 @@
+#!/usr/bin/env bash
+#
+# Réplica de streaming local para probar el perfil "replica".
+#
+#   benchmarks/replica.sh start     # pg_basebackup del primario (5432) y arranque en 5433
+#   benchmarks/replica.sh pause     # pausa el replay del WAL: el lag crece y la réplica sale de rotación
+#   benchmarks/replica.sh resume    # reanuda el replay
+#   benchmarks/replica.sh lag       # lag visto desde la réplica
+#   benchmarks/replica.sh stop      # detiene la réplica y borra su directorio
+#
+# Necesita los binarios de PostgreSQL (pg_basebackup, pg_ctl) de la misma versión que el
+# primario, y que el primario acepte conexiones de replicación locales (pg_hba.conf:
+# "host replication postgres 127.0.0.1/32 ..."; wal_level=replica es el valor por defecto).
+
+set -euo pipefail
+
+PRIMARY_PORT="${PRIMARY_PORT:-5432}"
+REPLICA_PORT="${REPLICA_PORT:-5433}"
+PGUSER="${PGUSER:-postgres}"
+DATA_DIR="${REPLICA_DIR:-${TMPDIR:-/tmp}/taskflow-replica}"
+
+replica_sql() {
+    psql -h localhost -p "$REPLICA_PORT" -U "$PGUSER" -d taskflow_db -Atc "$1"
+}
+
+case "${1:-}" in
+    start)
+        if [[ ! -d "$DATA_DIR" ]]; then
+            pg_basebackup -h localhost -p "$PRIMARY_PORT" -U "$PGUSER" -D "$DATA_DIR" -R -X stream -P
+        fi
+        pg_ctl -D "$DATA_DIR" -o "-p $REPLICA_PORT" -l "$DATA_DIR/replica.log" -w start
+        replica_sql "SELECT 'en recovery: ' || pg_is_in_recovery()"
+        ;;
+    pause)
+        replica_sql "SELECT pg_wal_replay_pause()" > /dev/null
+        echo "replay pausado"
+        ;;
+    resume)
+        replica_sql "SELECT pg_wal_replay_resume()" > /dev/null
+        echo "replay reanudado"
+        ;;
+    lag)
+        replica_sql "SELECT COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)"
+        ;;
+    stop)
+        pg_ctl -D "$DATA_DIR" -m fast -w stop || true
+        rm -rf "$DATA_DIR"
+        ;;
+    *)
+        echo "uso: $0 start|pause|resume|lag|stop" >&2
+        exit 1
+        ;;
+esac
@@ -0,0 +1,93 @@
+-- =====================================================
+-- DATASET DE BENCHMARK
+-- =====================================================
+
+/*
+ * Generar usuarios y tareas sinteticas con distribuciones parecidas a produccion.
+ * Input: variables psql :users y :tasks (cantidad de filas) y :skew (exponente
+ * de la distribucion de asignados, 1 = uniforme; por defecto 3).
+ * Proceso: INSERT ... SELECT sobre generate_series, una sola sentencia por tabla
+ * ejecutada dentro del servidor (sin ida y vuelta por fila, mas rapido que COPY
+ * desde un cliente). Distribuciones:
+ *   - asignados: ley de potencia, pocos usuarios concentran la mayoria de las
+ *     tareas (con skew=3 el 10% de los usuarios tiene ~46% de las tareas);
+ *     un 10% de las tareas queda sin asignar.
+ *   - estado: las tareas viejas estan mayormente DONE y las recientes TODO.
+ *   - prioridad: LOW 30%, MEDIUM 45%, HIGH 20%, CRITICAL 5%.
+ *   - vencimiento: 15% sin fecha; el resto entre 1 y 91 dias despues de la
+ *     creacion (distribucion exponencial, media de dos semanas).
+ *   - creacion: ultimo año, con mas tareas en los meses recientes.
+ * Todos los usuarios tienen la contraseña "password123" (mismo hash que los datos de demo).
+ * Output: tablas users y tasks con el volumen pedido y estadisticas al dia.
+ */
+\if :{?users}
+\else
+\set users 1000
+\endif
+\if :{?tasks}
+\else
+\set tasks 1000000
+\endif
+\if :{?skew}
+\else
+\set skew 3
+\endif
+
+TRUNCATE task_outbox, tasks, users RESTART IDENTITY;
+
+-- Ids consecutivos durante la carga; al final se restaura el incremento de 50 que usa Hibernate
+ALTER SEQUENCE users_id_seq INCREMENT BY 1;
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 1;
+
+INSERT INTO users (name, email, password_hash, is_active)
+SELECT 'Usuario ' || g,
+       'user' || g || '@example.com',
+       '$2a$10$slYQmyNdGzin7olVN3p5aOAEzsPmPnm8D4LhATX7H6ghNvlm.LZ6a',
+       g % 50 <> 0
+FROM generate_series(1, :users) AS g;
+
+INSERT INTO tasks (title, description, status, priority, due_date, assignee_id, created_at, updated_at)
+SELECT 'Tarea ' || g || ' ' || (ARRAY['login', 'reporte', 'deploy', 'bug', 'migracion'])[1 + g % 5],
+       'Descripcion generada para la tarea ' || g || ' del modulo '
+           || (ARRAY['pagos', 'usuarios', 'notificaciones', 'busqueda', 'facturacion'])[1 + (g / 5) % 5],
+       CASE
+           WHEN r.status < 0.85 * age.factor THEN 'DONE'
+           WHEN r.status < 0.85 * age.factor + 0.20 THEN 'IN_PROGRESS'
+           ELSE 'TODO'
+       END,
+       CASE
+           WHEN r.priority < 0.30 THEN 'LOW'
+           WHEN r.priority < 0.75 THEN 'MEDIUM'
+           WHEN r.priority < 0.95 THEN 'HIGH'
+           ELSE 'CRITICAL'
+       END,
+       CASE
+           WHEN r.due < 0.15 THEN NULL
+           ELSE t.ts::date + 1 + least(floor(-ln(1 - random()) * 14)::int, 90)
+       END,
+       CASE
+           WHEN r.assignee < 0.10 THEN NULL
+           ELSE 1 + floor(:users * power(random(), :skew))::bigint
+       END,
+       t.ts,
+       t.ts
+FROM generate_series(1, :tasks) AS g,
+     LATERAL (SELECT random() AS status, random() AS priority, random() AS due, random() AS assignee, g AS seed) AS r,
+     LATERAL (SELECT now() - (power(random(), 2) * interval '365 days') AS ts, r.seed) AS t,
+     LATERAL (SELECT extract(epoch FROM now() - t.ts) / extract(epoch FROM interval '365 days') AS factor) AS age;
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+
+ANALYZE users;
+ANALYZE tasks;
+
+/*
+ * Resumen de la distribucion generada.
+ * Output: tareas por estado y porcentaje de tareas del 10% de usuarios con mas tareas.
+ */
+SELECT status, count(*) FROM tasks GROUP BY status ORDER BY status;
+
+SELECT round(100.0 * sum(total) FILTER (WHERE rank <= :users / 10) / sum(total), 1) AS pct_top_10_usuarios
+FROM (SELECT count(*) AS total, rank() OVER (ORDER BY count(*) DESC) AS rank
+      FROM tasks WHERE assignee_id IS NOT NULL GROUP BY assignee_id) AS per_user;
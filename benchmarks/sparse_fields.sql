@@ -0,0 +1,48 @@
+-- =====================================================
+-- LECTURA PARCIAL (fields=) CON DESCRIPCIONES GRANDES
+-- =====================================================
+
+/*
+ * Compara el SELECT del listado completo (todas las columnas de tasks y el join a
+ * users) contra el de fields=id,title,status,priority,dueDate.
+ * Input: dataset generado con seed_tasks.sql; variable psql :desc_kb (tamaño de
+ * cada descripcion en KB, por defecto 4).
+ * Proceso: reemplaza las descripciones por texto aleatorio (no comprimible) de
+ * :desc_kb KB, que PostgreSQL guarda fuera de la fila (TOAST). Despues ejecuta
+ * ambas consultas sobre la misma pagina.
+ * Output: "Execution Time", buffers leidos y ancho de fila de cada variante; el
+ * listado completo lee la tabla TOAST, el parcial no.
+ */
+\if :{?desc_kb}
+\else
+\set desc_kb 4
+\endif
+
+\timing on
+
+\echo '== Descripciones de' :desc_kb 'KB'
+UPDATE tasks t
+SET description = (SELECT string_agg(md5(random()::text || t.id), '')
+                   FROM generate_series(1, :desc_kb * 32));
+VACUUM ANALYZE tasks;
+
+SELECT pg_size_pretty(pg_relation_size('tasks')) AS heap,
+       pg_size_pretty(pg_total_relation_size('tasks') - pg_relation_size('tasks')
+                      - pg_indexes_size('tasks')) AS toast;
+
+\echo '== Listado completo (size=100)'
+EXPLAIN (ANALYZE, BUFFERS, VERBOSE)
+SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date,
+       u.id, u.name, u.email, u.is_active, u.created_at, t.created_at, t.updated_at
+FROM tasks t LEFT JOIN users u ON u.id = t.assignee_id
+ORDER BY t.created_at DESC OFFSET 0 LIMIT 100;
+
+\echo '== fields=id,title,status,priority,dueDate (size=100)'
+EXPLAIN (ANALYZE, BUFFERS, VERBOSE)
+SELECT t.id, t.title, t.status, t.priority, t.due_date
+FROM tasks t
+ORDER BY t.created_at DESC OFFSET 0 LIMIT 100;
+
+\echo '== Bytes devueltos por pagina'
+SELECT sum(octet_length(t.description)) AS description_bytes
+FROM (SELECT description FROM tasks ORDER BY created_at DESC LIMIT 100) t;
@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+#
+# Tiempo hasta la primera respuesta y memoria (RSS) al arrancar, por modo de ejecución.
+#
+#   mvn -Paot package                 # jar, AOT y archivo CDS en target/extracted
+#   benchmarks/startup.sh [runs]      # por defecto 5 arranques por modo
+#
+# Modos:
+#   prod        java -jar, perfil prod
+#   fast-start  java -jar, perfiles prod,fast-start (beans perezosos, sin validación de esquema)
+#   aot-cds     jar extraído + AppCDS + AOT, perfiles prod,fast-start
+#
+# Cada arranque mide desde el lanzamiento de la JVM hasta el primer 200 de
+# GET /api/tasks?size=1 (incluye crear los beans perezosos que usa ese request),
+# y la RSS del proceso justo después. Necesita PostgreSQL con el esquema migrado
+# (SPRING_DATASOURCE_URL / _USERNAME / _PASSWORD si no es la base por defecto).
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-8080}"
+URL="http://localhost:${PORT}/api/tasks?size=1"
+JAR="taskflow-api-0.0.1-SNAPSHOT.jar"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+if [[ ! -f "$ROOT/target/$JAR" || ! -f "$ROOT/target/extracted/application.jsa" ]]; then
+    echo "Falta el build: ejecutar 'mvn -Paot package'" >&2
+    exit 1
+fi
+
+measure() {
+    local dir="$1"; shift
+    local start end pid rss
+
+    start=$(date +%s%N)
+    (cd "$dir" && exec java "$@" --server.port="$PORT" > /dev/null 2>&1) &
+    pid=$!
+
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "La aplicación terminó antes de responder" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    end=$(date +%s%N)
+    rss=$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$(( (end - start) / 1000000 )) $(( rss / 1024 ))"
+}
+
+run_mode() {
+    local name="$1"; shift
+    local results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$@")")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v name="$name" '
+        { ms[NR] = $1; rss += $2 }
+        END {
+            printf "%-12s %8d %8d %8d %10d\n", name, ms[1], ms[int((NR + 1) / 2)], ms[NR], rss / NR
+        }'
+}
+
+printf "%-12s %8s %8s %8s %10s\n" "modo" "min ms" "p50 ms" "max ms" "RSS MiB"
+run_mode prod       "$ROOT/target" -jar "$JAR" --spring.profiles.active=prod
+run_mode fast-start "$ROOT/target" -jar "$JAR" --spring.profiles.active=prod,fast-start
+run_mode aot-cds    "$ROOT/target/extracted" -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+                    -jar "$JAR" --spring.profiles.active=prod,fast-start
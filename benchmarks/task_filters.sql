@@ -0,0 +1,62 @@
+-- =====================================================
+-- FILTROS COMBINADOS DE GET /api/tasks
+-- =====================================================
+
+/*
+ * Cada bloque reproduce la consulta de pagina + la consulta de conteo que
+ * ejecuta TaskSpecifications para una combinacion de filtros (size=20).
+ * Input: dataset generado con seed_tasks.sql.
+ * Output: plan, filas leidas y "Execution Time" por combinacion.
+ */
+\timing on
+
+\echo '== sin filtros'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks ORDER BY created_at DESC LIMIT 20;
+
+\echo '== status'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE status = 'TODO' ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE status = 'TODO';
+
+\echo '== status + priority'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE status = 'TODO' AND priority = 'HIGH' ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE status = 'TODO' AND priority = 'HIGH';
+
+\echo '== assignee'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE assignee_id = 7 ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE assignee_id = 7;
+
+\echo '== status + assignee'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE status = 'TODO' AND assignee_id = 7 ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE status = 'TODO' AND assignee_id = 7;
+
+\echo '== priority'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE priority = 'CRITICAL' ORDER BY created_at DESC LIMIT 20;
+
+\echo '== rango de vencimiento'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE due_date >= CURRENT_DATE AND due_date <= CURRENT_DATE + 7
+ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE due_date >= CURRENT_DATE AND due_date <= CURRENT_DATE + 7;
+
+\echo '== status + assignee + rango de vencimiento'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE status = 'IN_PROGRESS' AND assignee_id = 7
+  AND due_date >= CURRENT_DATE - 30 AND due_date <= CURRENT_DATE
+ORDER BY created_at DESC LIMIT 20;
+
+\echo '== busqueda de texto'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE lower(title) LIKE '%deploy%' ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE lower(title) LIKE '%deploy%';
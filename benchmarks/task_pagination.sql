@@ -0,0 +1,28 @@
+-- =====================================================
+-- PAGINACION OFFSET VS KEYSET
+-- =====================================================
+
+/*
+ * Compara una pagina profunda con OFFSET (modo page/size) contra la misma
+ * pagina por cursor (modo cursor). El cursor se toma de la fila anterior a
+ * la pagina para que ambas consultas devuelvan las mismas filas.
+ * Input: dataset generado con seed_tasks.sql.
+ * Output: "Execution Time" de cada modo y del count(*) que el modo OFFSET agrega.
+ */
+\timing on
+
+SELECT created_at AS cursor_created_at, id AS cursor_id
+FROM tasks ORDER BY created_at DESC, id DESC OFFSET 499999 LIMIT 1 \gset
+
+\echo '== OFFSET (page=25000, size=20)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks ORDER BY created_at DESC, id DESC OFFSET 500000 LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks;
+
+\echo '== KEYSET (misma pagina)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks
+WHERE created_at <= :'cursor_created_at'
+  AND (created_at < :'cursor_created_at' OR (created_at = :'cursor_created_at' AND id < :cursor_id))
+ORDER BY created_at DESC, id DESC LIMIT 21;
@@ -0,0 +1,31 @@
+-- =====================================================
+-- BUSQUEDA: LIKE VS FULL-TEXT
+-- =====================================================
+
+/*
+ * Compara la busqueda anterior (lower(title) LIKE '%x%') con la busqueda
+ * full-text sobre titulo + descripcion (indice idx_tasks_search).
+ * Input: dataset generado con seed_tasks.sql y funciones de V1__initial_schema.sql.
+ * Output: plan y "Execution Time" de cada variante (pagina de 20 + conteo).
+ */
+\timing on
+
+\echo '== LIKE (antes)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks WHERE lower(title) LIKE '%deploy%' ORDER BY created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE lower(title) LIKE '%deploy%';
+
+\echo '== FULL-TEXT por prefijo con ranking (despues)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks
+WHERE task_search_matches(title, description, 'deplo:*')
+ORDER BY task_search_rank(title, description, 'deplo:*') DESC, created_at DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks WHERE task_search_matches(title, description, 'deplo:*');
+
+\echo '== FULL-TEXT con dos terminos'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM tasks
+WHERE task_search_matches(title, description, 'tarea:* & 4242:*')
+ORDER BY task_search_rank(title, description, 'tarea:* & 4242:*') DESC, created_at DESC LIMIT 20;
@@ -0,0 +1,67 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Datos de prueba compartidos por los benchmarks, con tamanos y textos
+ * parecidos a los de la base de demo.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("Usuario " + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPasswordHash("$2a$10$abcdefghijklmnopqrstuuJ0VYp9f4h5sTn1Dq8n0yJc7k3oQ5lHa");
+        user.setIsActive(true);
+        user.setCreatedAt(BASE_TIME);
+        user.setUpdatedAt(BASE_TIME);
+        return user;
+    }
+
+    static Task task(long id, User assignee) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Tarea " + id + " revisar integracion");
+        task.setDescription("Descripcion de la tarea " + id + " con suficiente texto para parecerse a una real");
+        task.setStatus(Status.values()[(int) (id % Status.values().length)]);
+        task.setPriority(Priority.values()[(int) (id % Priority.values().length)]);
+        task.setDueDate(LocalDate.of(2026, 3, 1).plusDays(id % 90));
+        task.setAssignee(assignee);
+        task.setVersion(0L);
+        task.setCreatedAt(BASE_TIME.plusMinutes(id));
+        task.setUpdatedAt(BASE_TIME.plusMinutes(id));
+        return task;
+    }
+
+    static List<Task> tasks(int count, int users) {
+        List<User> assignees = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            assignees.add(user(i));
+        }
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tasks.add(task(i, i % 5 == 0 ? null : assignees.get(i % users)));
+        }
+        return tasks;
+    }
+
+    static List<TaskResponse> taskResponses(int count) {
+        return tasks(count, 20).stream().map(TaskResponse::from).toList();
+    }
+}
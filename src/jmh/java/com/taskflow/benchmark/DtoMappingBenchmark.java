@@ -0,0 +1,66 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.UserResponse;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private User user;
+    private Task taskWithAssignee;
+    private Task taskWithoutAssignee;
+    private List<Task> page;
+
+    @Setup
+    public void setUp() {
+        user = BenchmarkData.user(1);
+        taskWithAssignee = BenchmarkData.task(1, user);
+        taskWithoutAssignee = BenchmarkData.task(2, null);
+        page = BenchmarkData.tasks(20, 5);
+    }
+
+    @Benchmark
+    public UserResponse userResponse() {
+        return UserResponse.from(user);
+    }
+
+    @Benchmark
+    public TaskResponse taskResponseWithAssignee() {
+        return TaskResponse.from(taskWithAssignee);
+    }
+
+    @Benchmark
+    public TaskResponse taskResponseWithoutAssignee() {
+        return TaskResponse.from(taskWithoutAssignee);
+    }
+
+    @Benchmark
+    public List<TaskResponse> taskResponsePage() {
+        List<TaskResponse> responses = new ArrayList<>(page.size());
+        for (Task task : page) {
+            responses.add(TaskResponse.from(task));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.controller.GlobalExceptionHandler;
+import com.taskflow.dto.ErrorResponse;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.ResourceNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Costo de un error de negocio de punta a punta: crear la excepcion (incluye
+ * capturar la pila) y construir el ErrorResponse en GlobalExceptionHandler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private WebRequest request;
+    private ResourceNotFoundException preallocated;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/tasks/42"));
+        preallocated = new ResourceNotFoundException("Tarea no encontrada: 42");
+    }
+
+    @Benchmark
+    public ResourceNotFoundException createException() {
+        return new ResourceNotFoundException("Tarea no encontrada: 42");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handlePreallocated() {
+        return handler.handleResourceNotFound(preallocated, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> notFound() {
+        return handler.handleResourceNotFound(new ResourceNotFoundException("Tarea no encontrada: 42"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> badRequest() {
+        return handler.handleBadRequest(new BadRequestException("Cursor invalido"), request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> unexpected() {
+        return handler.handleGenericException(new IllegalStateException("Fallo inesperado"), request);
+    }
+}
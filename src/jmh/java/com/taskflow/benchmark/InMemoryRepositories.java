@@ -0,0 +1,121 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Repositorios en memoria para medir TaskService sin base de datos.
+ * Implementan solo los metodos por id que usan las operaciones medidas; las consultas
+ * con Specification no estan implementadas (UnsupportedOperationException) porque no
+ * se pueden evaluar sin la base. Las altas reciben id pero no se conservan, para que el
+ * estado no crezca durante la medicion. Sin proxies de Spring no hay transacciones,
+ * cache ni eventos: se mide solo la logica del servicio.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static TaskRepository tasks(List<Task> seed) {
+        Map<Long, Task> store = new LinkedHashMap<>();
+        seed.forEach(task -> store.put(task.getId(), task));
+        AtomicLong sequence = new AtomicLong(seed.size() + 1L);
+
+        return proxy(TaskRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "save" -> save((Task) args[0], sequence);
+            case "saveAll" -> {
+                List<Task> saved = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(task -> saved.add(save((Task) task, sequence)));
+                yield saved;
+            }
+            case "findById", "findWithAssigneeById" -> Optional.ofNullable(store.get((Long) args[0]));
+            case "findSnapshotsByIdIn" -> ((Collection<?>) args[0]).stream()
+                    .map(store::get)
+                    .filter(task -> task != null)
+                    .map(TaskSnapshot::of)
+                    .toList();
+            case "updateStatusIfVersion" -> {
+                Task task = store.get((Long) args[0]);
+                if (task == null || !task.getVersion().equals(args[2])) {
+                    yield 0;
+                }
+                // TaskService incrementa la version de la entidad en memoria despues del UPDATE
+                task.setStatus((Status) args[1]);
+                yield 1;
+            }
+            case "updateStatusByIdIn" -> {
+                int updated = 0;
+                for (Object id : (Collection<?>) args[0]) {
+                    Task task = store.get((Long) id);
+                    if (task != null) {
+                        task.setStatus((Status) args[1]);
+                        task.setUpdatedAt((LocalDateTime) args[2]);
+                        updated++;
+                    }
+                }
+                yield updated;
+            }
+            case "delete" -> null;
+            default -> objectMethod(proxy, method.getName(), args);
+        });
+    }
+
+    static UserRepository users(List<User> seed) {
+        Map<Long, User> store = new LinkedHashMap<>();
+        seed.forEach(user -> store.put(user.getId(), user));
+
+        return proxy(UserRepository.class, (proxy, method, args) -> switch (method.getName()) {
+            case "findById" -> Optional.ofNullable(store.get((Long) args[0]));
+            case "findAllById" -> {
+                List<User> found = new ArrayList<>();
+                ((Iterable<?>) args[0]).forEach(id -> {
+                    User user = store.get((Long) id);
+                    if (user != null) {
+                        found.add(user);
+                    }
+                });
+                yield found;
+            }
+            default -> objectMethod(proxy, method.getName(), args);
+        });
+    }
+
+    private static Task save(Task task, AtomicLong sequence) {
+        if (task.getId() == null) {
+            task.setId(sequence.getAndIncrement());
+            task.setVersion(0L);
+            task.setCreatedAt(LocalDateTime.now());
+            task.setUpdatedAt(task.getCreatedAt());
+        }
+        return task;
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        return switch (name) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryRepository";
+            default -> throw new UnsupportedOperationException(name);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
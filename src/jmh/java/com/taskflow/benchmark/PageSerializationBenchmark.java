@@ -0,0 +1,64 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.CursorPage;
+import com.taskflow.dto.TaskCursor;
+import com.taskflow.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Serializacion JSON de una pagina de tareas como la devuelve GET /api/tasks,
+ * comparada con la pagina por cursor (sin metadatos de conteo ni Pageable).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<TaskResponse> page;
+    private CursorPage<TaskResponse> cursorPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder().build();
+        List<TaskResponse> content = BenchmarkData.taskResponses(pageSize);
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 100_000);
+        String nextCursor = TaskCursor.of(content.get(content.size() - 1)).encode();
+        cursorPage = new CursorPage<>(content, pageSize, nextCursor, true);
+    }
+
+    @Benchmark
+    public byte[] page() {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cursorPage() {
+        return objectMapper.writeValueAsBytes(cursorPage);
+    }
+}
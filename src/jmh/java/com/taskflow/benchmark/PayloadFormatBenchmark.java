@@ -0,0 +1,90 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.NormalizedTaskPage;
+import com.taskflow.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * CPU de serializacion de GET /api/tasks por formato (JSON, Smile, CBOR) y por forma
+ * de la respuesta (asignado embebido en cada tarea o normalizado), con y sin gzip.
+ * Los bytes de cada combinacion se imprimen al inicio de cada trial; el tamaño real
+ * en la red contra el servidor se mide con benchmarks/payload_sizes.sh.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    @Param({"embedded", "normalized"})
+    private String envelope;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper mapper;
+    private Page<TaskResponse> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "smile" -> SmileMapper.builder().build();
+            case "cbor" -> CBORMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+        List<TaskResponse> content = BenchmarkData.taskResponses(pageSize);
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 100_000);
+
+        byte[] plain = serialize();
+        System.out.printf("%n%s/%s/%d: %d bytes, %d bytes con gzip%n",
+                format, envelope, pageSize, plain.length, gzip(plain).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        Object body = envelope.equals("normalized") ? NormalizedTaskPage.from(page) : page;
+        return mapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] serializeGzip() throws IOException {
+        return gzip(serialize());
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
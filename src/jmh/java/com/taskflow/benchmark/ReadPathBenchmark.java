@@ -0,0 +1,112 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.TaskFlowApplication;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSpecifications;
+import com.taskflow.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Lectura del listado de tareas sobre H2: entidades (Task + User administrados,
+ * asignado LAZY, copia a TaskResponse) contra la proyeccion directa a TaskResponse
+ * de TaskResponseRepository. Correr con -prof gc (el perfil benchmark ya lo agrega)
+ * para comparar gc.alloc.rate.norm por operacion.
+ */
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int USERS = 50;
+    private static final int TASKS = 10_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnly;
+    private TaskFilter filter;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(TaskFlowApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.root=WARN"
+        );
+        taskRepository = context.getBean(TaskRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            User user = BenchmarkData.user(i);
+            user.setId(null);
+            users.add(user);
+        }
+        users = context.getBean(UserRepository.class).saveAll(users);
+
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 1; i <= TASKS; i++) {
+            Task task = BenchmarkData.task(i, users.get(i % USERS));
+            task.setId(null);
+            task.setVersion(null);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        filter = new TaskFilter(null, null, null, null, null, null);
+        pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TaskResponse> entityPath() {
+        return readOnly.execute(status ->
+                taskRepository.findAll(TaskSpecifications.matching(filter), pageable).map(TaskResponse::from));
+    }
+
+    @Benchmark
+    public Page<TaskResponse> projectionPath() {
+        return readOnly.execute(status ->
+                taskRepository.findResponses(TaskSpecifications.matching(filter), pageable));
+    }
+}
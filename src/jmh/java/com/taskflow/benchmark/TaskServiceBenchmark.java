@@ -0,0 +1,126 @@
+package com.taskflow.benchmark;
+
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.TaskService;
+import com.taskflow.service.TaskStatsStore;
+import com.taskflow.service.UserService;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Logica de TaskService (validacion de lotes, versionado, armado de eventos) sobre
+ * repositorios en memoria. Los listados filtrados, la busqueda y el cursor no se miden
+ * aca: su costo es la consulta SQL (ver ReadPathBenchmark y los scripts de benchmarks/).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int USERS = 20;
+    private static final int TASKS = 1_000;
+    private static final int BATCH_SIZE = 100;
+
+    private ValidatorFactory validatorFactory;
+    private TaskService taskService;
+    private List<CreateTaskRequest> createRequests;
+    private List<Long> batchIds;
+    private Status nextStatus = Status.IN_PROGRESS;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        List<Task> tasks = BenchmarkData.tasks(TASKS, USERS);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(BenchmarkData.user(i));
+        }
+
+        TaskRepository taskRepository = InMemoryRepositories.tasks(tasks);
+        UserRepository userRepository = InMemoryRepositories.users(users);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        taskService = new TaskService(
+                taskRepository,
+                userRepository,
+                new UserService(userRepository, new BCryptPasswordEncoder(), event -> { }),
+                text -> {
+                    throw new UnsupportedOperationException("Busqueda no medida sin base de datos");
+                },
+                new TaskStatsStore(taskRepository),
+                event -> { },
+                validatorFactory.getValidator()
+        );
+        ReflectionTestUtils.setField(taskService, "maxBatchSize", 1000);
+
+        createRequests = new ArrayList<>(BATCH_SIZE);
+        batchIds = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            createRequests.add(new CreateTaskRequest("Tarea en lote " + i, "Descripcion", Status.TODO, Priority.MEDIUM,
+                    LocalDate.of(2026, 4, 1), (long) (i % USERS)));
+            batchIds.add((long) (i * 7 + 1));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Task getById() {
+        return taskService.getById(42L);
+    }
+
+    @Benchmark
+    public Task create() {
+        Task task = new Task();
+        task.setTitle("Nueva tarea");
+        task.setStatus(Status.TODO);
+        task.setPriority(Priority.MEDIUM);
+        return taskService.create(task, 3L);
+    }
+
+    @Benchmark
+    public Task updateStatus() {
+        nextStatus = nextStatus == Status.IN_PROGRESS ? Status.DONE : Status.IN_PROGRESS;
+        return taskService.updateStatus(42L, nextStatus, null);
+    }
+
+    @Benchmark
+    public BatchResponse createAll() {
+        return taskService.createAll(createRequests);
+    }
+
+    @Benchmark
+    public BatchResponse updateStatusAll() {
+        return taskService.updateStatusAll(batchIds, Status.DONE);
+    }
+}
@@ -0,0 +1,235 @@
+package com.taskflow.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.exception.ServiceUnavailableException;
+import com.taskflow.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * Control de admision delante de los controllers de /api:
+ *   1. descarte adaptativo segun la espera por conexiones del pool
+ *      (DatabasePressureMonitor) -> 503; primero busquedas y exportaciones, despues
+ *      lecturas, las escrituras no se descartan
+ *   2. limite de requests concurrentes por clase de endpoint -> 503
+ *   3. rate limit por cliente (token bucket; una busqueda, exportacion o escritura cuesta
+ *      mas tokens que una lectura) -> 429 con Retry-After hasta tener tokens
+ * Los tokens se cobran al final, solo si el request entra: un 503 no gasta cupo del cliente.
+ * La exportacion tiene su propia clase porque retiene el permiso durante todo el streaming.
+ * El cliente se identifica con el usuario autenticado o, sin autenticacion, con la direccion
+ * remota. X-Client-Id no se usa: lo elige el cliente, y uno distinto por request evitaria el
+ * limite y desalojaria los buckets de los demas. Los rechazos pasan por GlobalExceptionHandler,
+ * con el mismo cuerpo ErrorResponse que el resto de la API.
+ */
+@Component
+@ConditionalOnProperty(name = "taskflow.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    enum EndpointClass { READ, WRITE, SEARCH, EXPORT }
+
+    private static final String EVENT_STREAM_URI = "/api/tasks/events";
+
+    private final HandlerExceptionResolver exceptionResolver;
+    private final DatabasePressureMonitor pressure;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, TokenBucket> buckets;
+    private final double rate;
+    private final double burst;
+    private final long shedRetryAfterSeconds;
+    private final Map<EndpointClass, Double> costs = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Semaphore> permits = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionControlFilter(
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+            DatabasePressureMonitor pressure,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${taskflow.admission.rate:50}") double rate,
+            @Value("${taskflow.admission.burst:100}") double burst,
+            @Value("${taskflow.admission.max-clients:100000}") long maxClients,
+            @Value("${taskflow.admission.shed.retry-after:2s}") Duration shedRetryAfter) {
+        this.exceptionResolver = exceptionResolver;
+        this.pressure = pressure;
+        this.meterRegistry = meterRegistry;
+        this.rate = rate;
+        this.burst = burst;
+        this.shedRetryAfterSeconds = Math.max(1, shedRetryAfter.toSeconds());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String name = endpointClass.name().toLowerCase(Locale.ROOT);
+            costs.put(endpointClass, environment.getProperty("taskflow.admission.cost." + name, Double.class, 1.0));
+            Semaphore semaphore = new Semaphore(
+                    environment.getProperty("taskflow.admission.concurrency." + name, Integer.class, 32));
+            permits.put(endpointClass, semaphore);
+            Gauge.builder("taskflow.admission.available", semaphore, Semaphore::availablePermits)
+                    .description("Permisos de concurrencia libres por clase de endpoint")
+                    .tag("class", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = classify(request);
+        Semaphore semaphore = permits.get(endpointClass);
+        /* Las conexiones SSE quedan abiertas sin usar la base: solo pasan por el rate limit */
+        boolean eventStream = request.getRequestURI().equals(EVENT_STREAM_URI);
+        boolean acquired = false;
+        try {
+            if (!eventStream) {
+                checkPressure(endpointClass);
+                if (!semaphore.tryAcquire()) {
+                    record(endpointClass, "concurrency_limited");
+                    throw new ServiceUnavailableException("Demasiadas solicitudes en curso, reintente en unos segundos", 1);
+                }
+                acquired = true;
+            }
+            checkRate(request, endpointClass);
+        } catch (TooManyRequestsException | ServiceUnavailableException exception) {
+            if (acquired) {
+                semaphore.release();
+            }
+            exceptionResolver.resolveException(request, response, null, exception);
+            return;
+        }
+
+        record(endpointClass, "admitted");
+        if (eventStream) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Runnable release = releaseOnce(semaphore);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private void checkRate(HttpServletRequest request, EndpointClass endpointClass) {
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(clientId(request), key -> new TokenBucket(rate, burst, now));
+        long waitNanos = bucket.tryConsume(costs.get(endpointClass), now);
+        if (waitNanos > 0) {
+            record(endpointClass, "rate_limited");
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new TooManyRequestsException("Limite de solicitudes excedido para el cliente", retryAfter);
+        }
+    }
+
+    private void checkPressure(EndpointClass endpointClass) {
+        double level = pressure.level();
+        boolean shed = switch (endpointClass) {
+            case SEARCH, EXPORT -> level >= 1;
+            case READ -> level >= 2;
+            case WRITE -> false;
+        };
+        if (shed) {
+            record(endpointClass, "shed");
+            throw new ServiceUnavailableException("Base de datos saturada, reintente en unos segundos", shedRetryAfterSeconds);
+        }
+    }
+
+    private static EndpointClass classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!method.equals("GET") && !method.equals("HEAD")) {
+            return EndpointClass.WRITE;
+        }
+        if (request.getRequestURI().startsWith("/api/tasks/export")) {
+            return EndpointClass.EXPORT;
+        }
+        if (hasText(request.getParameter("search"))) {
+            return EndpointClass.SEARCH;
+        }
+        return EndpointClass.READ;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String clientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        return principal != null ? "user:" + principal.getName() : "addr:" + request.getRemoteAddr();
+    }
+
+    private void record(EndpointClass endpointClass, String outcome) {
+        Counter.builder("taskflow.admission.decisions")
+                .description("Decisiones del control de admision")
+                .tag("class", endpointClass.name().toLowerCase(Locale.ROOT))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Runnable releaseOnce(Semaphore semaphore) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        };
+    }
+
+    private record ReleasingListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
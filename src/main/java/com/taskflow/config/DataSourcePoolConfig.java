@@ -0,0 +1,46 @@
+package com.taskflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/*
+ * Tamaño del pool de HikariCP calculado a partir de los nucleos:
+ * conexiones = nucleos * core-multiplier + spindles (formula de PostgreSQL).
+ * Los nucleos que importan son los del servidor de base; si corre en otra
+ * maquina se indican con taskflow.datasource.pool.db-cores.
+ * Un maximum-pool-size explicito tiene prioridad (para las replicas de lectura,
+ * taskflow.datasource.replicas.pool-size). El pool queda de tamaño fijo
+ * (minimum-idle = maximo) para no abrir conexiones durante los picos.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskflow.datasource.pool.size-from-cores", havingValue = "true")
+public class DataSourcePoolConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizing(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && !environment.containsProperty("spring.datasource.hikari.maximum-pool-size")
+                        && !(dataSource.isReadOnly() && environment.containsProperty(ReadReplicaConfig.REPLICA_POOL_SIZE))) {
+                    int cores = environment.getProperty("taskflow.datasource.pool.db-cores", Integer.class, 0);
+                    if (cores <= 0) {
+                        cores = Runtime.getRuntime().availableProcessors();
+                    }
+                    int multiplier = environment.getProperty("taskflow.datasource.pool.core-multiplier", Integer.class, 2);
+                    int spindles = environment.getProperty("taskflow.datasource.pool.spindles", Integer.class, 1);
+
+                    int size = cores * multiplier + spindles;
+                    dataSource.setMaximumPoolSize(size);
+                    dataSource.setMinimumIdle(size);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Espera reciente por una conexion del pool: cada intervalo toma la diferencia de
+ * hikaricp.connections.acquire (todos los pools) y calcula el promedio del intervalo.
+ * Si no se obtuvo ninguna conexion y hay hilos esperando, el pool se toma como saturado.
+ * level() = espera promedio / umbral; AdmissionControlFilter descarta busquedas con
+ * level >= 1 y tambien lecturas con level >= 2.
+ */
+@Component
+@Lazy(false)
+@ConditionalOnProperty(name = "taskflow.admission.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabasePressureMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final double thresholdNanos;
+
+    private long lastCount;
+    private double lastTotalNanos;
+    private volatile double recentWaitNanos;
+
+    public DatabasePressureMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.admission.shed.acquire-threshold:200ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdNanos = threshold.toNanos();
+        Gauge.builder("taskflow.admission.pool.wait", this, monitor -> monitor.recentWaitNanos / 1_000_000)
+                .description("Espera promedio por una conexion en el ultimo intervalo")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.admission.shed.level", this, DatabasePressureMonitor::level)
+                .description("Espera reciente por conexion dividida por el umbral de descarte")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${taskflow.admission.shed.sample-interval-ms:1000}",
+            fixedDelayString = "${taskflow.admission.shed.sample-interval-ms:1000}"
+    )
+    public void sample() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+        double pending = 0;
+        for (Gauge gauge : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            pending += gauge.value();
+        }
+
+        long acquired = count - lastCount;
+        if (acquired > 0) {
+            recentWaitNanos = (totalNanos - lastTotalNanos) / acquired;
+        } else {
+            /* Nadie obtuvo conexion en el intervalo pero hay hilos esperando: pool saturado */
+            recentWaitNanos = pending > 0 ? 2 * thresholdNanos : 0;
+        }
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+    }
+
+    public double level() {
+        return recentWaitNanos / thresholdNanos;
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskflow.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,7 +10,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordConfig{
 
     @Bean 
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${taskflow.security.bcrypt.strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
     }
-}
\ No newline at end of file
+}
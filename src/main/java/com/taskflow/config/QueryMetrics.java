@@ -0,0 +1,45 @@
+package com.taskflow.config;
+
+/*
+ * Acumulador de queries JDBC del request en curso.
+ * QueryMetricsFilter lo abre al empezar el request y QueryMetricsListener
+ * (un listener de sesion de Hibernate) le suma cada sentencia ejecutada.
+ * Fuera de un request (tareas programadas, listeners async) no hay acumulador
+ * y el listener no registra nada.
+ */
+public final class QueryMetrics {
+
+    private static final ThreadLocal<QueryMetrics> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long nanos;
+
+    private QueryMetrics() {
+    }
+
+    static QueryMetrics open() {
+        QueryMetrics metrics = new QueryMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    static void record(long elapsedNanos) {
+        QueryMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.count++;
+            metrics.nanos += elapsedNanos;
+        }
+    }
+
+    int count() {
+        return count;
+    }
+
+    long nanos() {
+        return nanos;
+    }
+}
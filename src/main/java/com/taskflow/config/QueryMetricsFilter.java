@@ -0,0 +1,64 @@
+package com.taskflow.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Registra por endpoint cuantas sentencias JDBC ejecuto cada request
+ * (taskflow.http.queries) y cuanto tiempo paso en ellas (taskflow.http.query.time).
+ * Un N+1 aparece como un salto en la cantidad de queries de un endpoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryMetrics metrics = QueryMetrics.open();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryMetrics.close();
+            record(request, metrics);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryMetrics metrics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("taskflow.http.queries")
+                .description("Sentencias JDBC ejecutadas por request")
+                .baseUnit("queries")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(metrics.count());
+        Timer.builder("taskflow.http.query.time")
+                .description("Tiempo en sentencias JDBC por request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(metrics.nanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.config;
+
+import org.hibernate.SessionEventListener;
+
+/*
+ * Hibernate crea una instancia por sesion (hibernate.session.events.auto),
+ * por eso el tiempo de inicio se guarda en un campo sin sincronizacion.
+ */
+public class QueryMetricsListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryMetrics.record(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryMetrics.record(System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,156 @@
+package com.taskflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/*
+ * Ruteo lectura/escritura: las transacciones readOnly van a una de las replicas de
+ * taskflow.datasource.replicas.urls y el resto al primario (spring.datasource.url).
+ * El primario (primaryDataSource) y cada replica (replicaDataSource1, 2, ...) son beans
+ * HikariDataSource con la configuracion spring.datasource.hikari.*: les aplican los
+ * post-procesadores (tamaño de DataSourcePoolConfig) y se cierran al apagar.
+ * El DataSource expuesto es un LazyConnectionDataSourceProxy para que la decision se
+ * tome con la transaccion ya marcada readOnly (ver ReplicaRoutingDataSource).
+ * Ninguna replica recibe lecturas hasta su primer chequeo de lag, que corre programado
+ * despues del arranque: una replica caida no demora ni hace fallar el inicio.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskflow.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    static final String REPLICA_POOL_SIZE = "taskflow.datasource.replicas.pool-size";
+
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource pool = pool(environment, "primary");
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pool.setJdbcUrl(properties.determineUrl());
+        pool.setUsername(properties.determineUsername());
+        pool.setPassword(properties.determinePassword());
+        pool.setDriverClassName(properties.determineDriverClassName());
+        return pool;
+    }
+
+    /*
+     * La cantidad de replicas sale de la configuracion: se registran antes de crear los beans.
+     * No son candidatas a autowiring para que el health check de DataSource no marque la
+     * aplicacion DOWN por una replica caida (las lecturas siguen en el primario).
+     */
+    @Bean
+    public static BeanDefinitionRegistryPostProcessor replicaDataSources(Environment environment) {
+        return new BeanDefinitionRegistryPostProcessor() {
+            @Override
+            public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+                Binder binder = Binder.get(environment);
+                List<String> urls = binder.bind("taskflow.datasource.replicas.urls", Bindable.listOf(String.class))
+                        .orElse(List.of());
+                for (int i = 0; i < urls.size(); i++) {
+                    String name = "replica-" + (i + 1);
+                    String url = urls.get(i);
+                    registry.registerBeanDefinition("replicaDataSource" + (i + 1), BeanDefinitionBuilder
+                            .genericBeanDefinition(HikariDataSource.class, () -> replicaPool(environment, name, url))
+                            .setAutowireCandidate(false)
+                            .getBeanDefinition());
+                }
+            }
+
+            @Override
+            public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            }
+        };
+    }
+
+    @Bean
+    @Lazy(false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary,
+            ConfigurableListableBeanFactory beanFactory,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.datasource.replicas.max-lag:5s}") Duration maxLag) {
+
+        List<HikariDataSource> pools = beanFactory.getBeansOfType(HikariDataSource.class).values().stream()
+                .filter(pool -> pool != primary)
+                .sorted(Comparator.comparing(HikariDataSource::getPoolName))
+                .toList();
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (HikariDataSource pool : pools) {
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaRoutingDataSource.Replica(pool.getPoolName(), pool));
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, maxLag);
+        for (ReplicaRoutingDataSource.Replica replica : routing.getReplicas()) {
+            Gauge.builder("taskflow.datasource.replica.lag", replica, ReplicaRoutingDataSource.Replica::lagSeconds)
+                    .description("Lag de la replica medido en el ultimo chequeo (NaN si fallo)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("taskflow.datasource.replica.available", replica, r -> r.isAvailable() ? 1 : 0)
+                    .description("1 si la replica recibe lecturas, 0 si esta fuera de rotacion")
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+        }
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${taskflow.datasource.replicas.read-your-writes-window:5s}") Duration window,
+            @Value("${taskflow.datasource.replicas.read-your-writes-max-clients:100000}") long maxClients) {
+        return new ReadYourWritesFilter(window, maxClients);
+    }
+
+    /* Sin pool-size explicito la replica queda del mismo tamaño que el primario */
+    private static HikariDataSource replicaPool(Environment environment, String name, String url) {
+        HikariDataSource pool = pool(environment, name);
+        pool.setJdbcUrl(url);
+        pool.setUsername(environment.getProperty("taskflow.datasource.replicas.username",
+                environment.getProperty("spring.datasource.username")));
+        pool.setPassword(environment.getProperty("taskflow.datasource.replicas.password",
+                environment.getProperty("spring.datasource.password")));
+        pool.setReadOnly(true);
+        Integer poolSize = environment.getProperty(REPLICA_POOL_SIZE, Integer.class);
+        if (poolSize != null) {
+            pool.setMaximumPoolSize(poolSize);
+            pool.setMinimumIdle(poolSize);
+        }
+        return pool;
+    }
+
+    private static HikariDataSource pool(Environment environment, String name) {
+        HikariDataSource pool = new HikariDataSource();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        return pool;
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskflow.config;
+
+/*
+ * Marca el request en curso para que sus lecturas vayan al primario aunque sean
+ * readOnly. ReadYourWritesFilter la activa cuando el cliente hizo una escritura
+ * hace menos de read-your-writes-window; ReplicaRoutingDataSource la consulta.
+ */
+public final class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    static void requirePrimary() {
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        PRIMARY_REQUIRED.remove();
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskflow.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/*
+ * Read-your-writes: despues de una escritura exitosa, las lecturas del mismo cliente
+ * van al primario durante la ventana configurada, para que no vea en una replica
+ * atrasada un estado anterior a su propio cambio. El cliente se identifica con el
+ * header X-Client-Id o, si no viene, con la direccion remota.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration window, long maxClients) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String clientId = clientId(request);
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (recentWriters.getIfPresent(clientId) != null) {
+            ReadYourWrites.requirePrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+            if (write && response.getStatus() < 400) {
+                recentWriters.put(clientId, Boolean.TRUE);
+            }
+        }
+    }
+
+    private String clientId(HttpServletRequest request) {
+        String header = request.getHeader(CLIENT_ID_HEADER);
+        return header != null && !header.isBlank() ? header : request.getRemoteAddr();
+    }
+}
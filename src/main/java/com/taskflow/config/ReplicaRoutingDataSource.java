@@ -0,0 +1,158 @@
+package com.taskflow.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Envia las transacciones de solo lectura a una replica y el resto al primario.
+ * Debe usarse detras de un LazyConnectionDataSourceProxy: la conexion real se pide
+ * recien en la primera sentencia, cuando la transaccion ya esta marcada readOnly.
+ * Una replica se usa solo si su ultimo chequeo de lag fue exitoso y esta por debajo
+ * de max-lag; si no hay ninguna disponible la lectura va al primario.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Duration maxLag;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return determineTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return determineTarget().getConnection(username, password);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    DataSource determineTarget() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPrimaryRequired()) {
+            return primary;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                return replica.dataSource();
+            }
+        }
+        return primary;
+    }
+
+    /*
+     * Lag = tiempo desde la ultima transaccion aplicada, salvo que la replica ya haya
+     * aplicado todo el WAL del primario (sin escrituras recientes el timestamp envejece
+     * aunque no haya atraso). Una instancia que no esta en recovery (base independiente
+     * usada como stand-in en desarrollo) se considera al dia. El primer chequeo corre apenas
+     * arranca el scheduler; hasta entonces, y ante cualquier error, la replica queda fuera de
+     * rotacion y las lecturas van al primario.
+     */
+    @Scheduled(fixedDelayString = "${taskflow.datasource.replicas.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        Long primaryLsn = currentPrimaryLsn();
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("""
+                         SELECT pg_is_in_recovery(),
+                                pg_last_wal_replay_lsn()::text,
+                                COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                         """)) {
+                rs.next();
+                double lagSeconds = 0;
+                if (rs.getBoolean(1)) {
+                    Long replayLsn = parseLsn(rs.getString(2));
+                    boolean caughtUp = primaryLsn != null && replayLsn != null && replayLsn >= primaryLsn;
+                    lagSeconds = caughtUp ? 0 : rs.getDouble(3);
+                }
+                replica.update(lagSeconds, lagSeconds * 1000 <= maxLag.toMillis());
+            } catch (SQLException | RuntimeException e) {
+                log.warn("No se pudo consultar el lag de la replica {}: {}", replica.name(), e.getMessage());
+                replica.update(Double.NaN, false);
+            }
+        }
+    }
+
+    private Long currentPrimaryLsn() {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+            rs.next();
+            return parseLsn(rs.getString(1));
+        } catch (SQLException | RuntimeException e) {
+            log.warn("No se pudo consultar la posicion WAL del primario: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /* Formato de pg_lsn: dos enteros hexadecimales de 32 bits separados por '/' */
+    static Long parseLsn(String lsn) {
+        if (lsn == null) {
+            return null;
+        }
+        int slash = lsn.indexOf('/');
+        return (Long.parseLong(lsn.substring(0, slash), 16) << 32) | Long.parseLong(lsn.substring(slash + 1), 16);
+    }
+
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+        private volatile double lagSeconds = Double.NaN;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+
+        public double lagSeconds() {
+            return lagSeconds;
+        }
+
+        void update(double lagSeconds, boolean available) {
+            if (this.available != available) {
+                log.info("Replica {} {} (lag {}s)", name, available ? "disponible" : "fuera de rotacion", lagSeconds);
+            }
+            this.lagSeconds = lagSeconds;
+            this.available = available;
+        }
+    }
+}
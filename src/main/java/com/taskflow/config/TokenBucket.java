@@ -0,0 +1,40 @@
+package com.taskflow.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Token bucket sin locks: el estado (tokens, instante de la ultima recarga) es
+ * inmutable y se reemplaza con compareAndSet. Los tokens se recargan al consumir,
+ * segun el tiempo transcurrido, hasta la capacidad (rafaga).
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private final AtomicReference<State> state;
+
+    TokenBucket(double tokensPerSecond, double capacity, long now) {
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = capacity;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /* 0 si se consumieron los tokens; si no, nanos hasta que haya suficientes */
+    long tryConsume(double cost, long now) {
+        while (true) {
+            State current = state.get();
+            long at = Math.max(now, current.updatedAt());
+            double tokens = Math.min(capacity, current.tokens() + (at - current.updatedAt()) * tokensPerNano);
+            if (tokens < cost) {
+                return (long) Math.ceil((cost - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - cost, at))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+}
@@ -48,6 +48,14 @@ public class AuthController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Validación fallida en el request"
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Demasiados logins simultáneos (ver Retry-After)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     @PostMapping("/login")
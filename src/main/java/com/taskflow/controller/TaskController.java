@@ -1,14 +1,29 @@
 package com.taskflow.controller;
 
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.BatchStatusUpdateRequest;
 import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.CursorPage;
+import com.taskflow.dto.TaskDetail;
+import com.taskflow.dto.ETagged;
+import com.taskflow.dto.NormalizedTaskPage;
+import com.taskflow.dto.TaskField;
+import com.taskflow.dto.TaskFieldsRow;
+import com.taskflow.dto.TaskExportFormat;
+import com.taskflow.dto.TaskFilter;
 import com.taskflow.dto.TaskResponse;
 import com.taskflow.dto.UpdateTaskRequest;
 import com.taskflow.dto.UpdateTaskStatusRequest;
 import com.taskflow.dto.TaskStatsDto;
 import com.taskflow.dto.ErrorResponse;
+import com.taskflow.exception.BadRequestException;
 import com.taskflow.model.Priority;
 import com.taskflow.model.Status;
 import com.taskflow.model.Task;
+import com.taskflow.service.TaskEventBroadcaster;
+import com.taskflow.service.TaskExportService;
+import com.taskflow.service.TaskDetailCache;
+import com.taskflow.service.TaskQueryCache;
 import com.taskflow.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,24 +37,47 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Tasks", description = "Endpoints para gestión completa de tareas (CRUD, filtrado, paginación)")
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskQueryCache taskQueryCache;
+    private final TaskDetailCache taskDetailCache;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService,
+                          TaskEventBroadcaster taskEventBroadcaster, TaskQueryCache taskQueryCache,
+                          TaskDetailCache taskDetailCache) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.taskQueryCache = taskQueryCache;
+        this.taskDetailCache = taskDetailCache;
     }
 
     @Operation(
             summary = "Obtener tareas con filtrado opcional",
-            description = "Devuelve lista paginada de tareas. Soporta filtrado por status, prioridad, usuario asignado o búsqueda de texto"
+            description = "Devuelve lista paginada de tareas. Los filtros (status, prioridad, usuario asignado, rango de vencimiento y búsqueda de texto) se combinan entre sí. "
+                    + "Las páginas se sirven desde un cache invalidado por cada cambio; incluye un ETag débil (el mismo para JSON, CBOR y Smile) "
+                    + "y con If-None-Match responde 304 si no cambió"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -49,6 +87,10 @@ public class TaskController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = Page.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "La página no cambió desde el ETag enviado en If-None-Match"
             )
     })
     @GetMapping
@@ -59,43 +101,184 @@ public class TaskController {
             @RequestParam(required = false) Priority priority,
             @Parameter(description = "Filtrar por ID del usuario asignado")
             @RequestParam(required = false) Long assigneeId,
-            @Parameter(description = "Buscar en título de la tarea")
+            @Parameter(description = "Fecha de vencimiento mínima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @Parameter(description = "Fecha de vencimiento máxima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @Parameter(description = "Buscar en título y descripción (coincide por prefijo, ordena por relevancia)")
             @RequestParam(required = false) String search,
             @Parameter(description = "Número de página (0-indexed)")
             Pageable pageable
     ) {
-        Pageable customPageable = PageRequest.of(
-                pageable.getPageNumber(),
-                pageable.getPageSize(),
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
+        TaskFilter filter = new TaskFilter(status, priority, assigneeId, dueFrom, dueTo, search);
+        ETagged<Page<TaskResponse>> responsePage = taskQueryCache.getTasks(filter, newestFirst(pageable));
 
-        Page<Task> tasksPage = taskService.getTasks(status, priority, assigneeId, search, customPageable);
-
-        Page<TaskResponse> responsePage = tasksPage.map(task -> new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getPriority(),
-                task.getDueDate(),
-                task.getAssignee() != null ? new com.taskflow.dto.UserResponse(
-                        task.getAssignee().getId(),
-                        task.getAssignee().getName(),
-                        task.getAssignee().getEmail(),
-                        task.getAssignee().getIsActive(),
-                        task.getAssignee().getCreatedAt()
-                ) : null,
-                task.getCreatedAt(),
-                task.getUpdatedAt()
-        ));
+        return ResponseEntity.ok()
+                .eTag(responsePage.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(responsePage.value());
+    }
+
+    @Operation(
+            summary = "Obtener tareas en formato normalizado",
+            description = "Igual que el listado paginado, pero cada tarea lleva solo assigneeId y los usuarios asignados "
+                    + "se envían una vez en assignees. Se activa con envelope=normalized. Como el resto de los endpoints, "
+                    + "responde JSON, CBOR (application/cbor) o Smile (application/x-jackson-smile) según el header Accept"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lista de tareas obtenida exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = NormalizedTaskPage.class)
+                    )
+            )
+    })
+    @GetMapping(params = {"envelope=normalized", "!cursor", "!fields"})
+    public ResponseEntity<NormalizedTaskPage> getTasksNormalized(
+            @Parameter(description = "Filtrar por estado (TODO, IN_PROGRESS, DONE)")
+            @RequestParam(required = false) Status status,
+            @Parameter(description = "Filtrar por prioridad (LOW, MEDIUM, HIGH, CRITICAL)")
+            @RequestParam(required = false) Priority priority,
+            @Parameter(description = "Filtrar por ID del usuario asignado")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Fecha de vencimiento mínima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @Parameter(description = "Fecha de vencimiento máxima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @Parameter(description = "Buscar en título y descripción (coincide por prefijo, ordena por relevancia)")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "Número de página (0-indexed)")
+            Pageable pageable
+    ) {
+        TaskFilter filter = new TaskFilter(status, priority, assigneeId, dueFrom, dueTo, search);
+        ETagged<Page<TaskResponse>> responsePage = taskQueryCache.getTasks(filter, newestFirst(pageable));
+
+        return ResponseEntity.ok()
+                .eTag(responsePage.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(NormalizedTaskPage.from(responsePage.value()));
+    }
+
+    @Operation(
+            summary = "Obtener tareas con campos seleccionados",
+            description = "Igual que el listado paginado, pero cada tarea incluye solo los campos de fields "
+                    + "(separados por coma: id, title, description, status, priority, dueDate, assigneeId, assignee, "
+                    + "createdAt, updatedAt). La consulta a la base selecciona solo esas columnas; id siempre se incluye. "
+                    + "No se combina con cursor ni envelope (400)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lista de tareas obtenida exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = Page.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconocido en fields, o fields combinado con cursor o envelope",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getTaskFields(
+            @Parameter(description = "Campos a incluir, separados por coma (ej. id,title,status,priority,dueDate)")
+            @RequestParam String fields,
+            @Parameter(description = "Filtrar por estado (TODO, IN_PROGRESS, DONE)")
+            @RequestParam(required = false) Status status,
+            @Parameter(description = "Filtrar por prioridad (LOW, MEDIUM, HIGH, CRITICAL)")
+            @RequestParam(required = false) Priority priority,
+            @Parameter(description = "Filtrar por ID del usuario asignado")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Fecha de vencimiento mínima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @Parameter(description = "Fecha de vencimiento máxima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @Parameter(description = "Buscar en título y descripción (coincide por prefijo, ordena por relevancia)")
+            @RequestParam(required = false) String search,
+            @Parameter(hidden = true)
+            @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true)
+            @RequestParam(required = false) String envelope,
+            @Parameter(description = "Número de página (0-indexed)")
+            Pageable pageable
+    ) {
+        if (cursor != null || envelope != null) {
+            throw new BadRequestException("fields no se puede combinar con cursor ni con envelope");
+        }
+        TaskFilter filter = new TaskFilter(status, priority, assigneeId, dueFrom, dueTo, search);
+        Page<Map<String, Object>> responsePage =
+                taskService.getTaskFields(filter, newestFirst(pageable), TaskField.parse(fields));
 
         return ResponseEntity.ok(responsePage);
     }
 
+    @Operation(
+            summary = "Obtener tareas por cursor (keyset)",
+            description = "Modo de paginación por cursor: se activa enviando el parámetro cursor (vacío para la primera página). "
+                    + "Ordena por fecha de creación descendente, no ejecuta conteo y devuelve nextCursor para pedir la siguiente página. "
+                    + "No se combina con envelope (400)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página de tareas obtenida exitosamente",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPage.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Cursor inválido, o cursor combinado con envelope",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(params = {"cursor", "!fields"})
+    public ResponseEntity<CursorPage<TaskResponse>> getTasksByCursor(
+            @Parameter(description = "Filtrar por estado (TODO, IN_PROGRESS, DONE)")
+            @RequestParam(required = false) Status status,
+            @Parameter(description = "Filtrar por prioridad (LOW, MEDIUM, HIGH, CRITICAL)")
+            @RequestParam(required = false) Priority priority,
+            @Parameter(description = "Filtrar por ID del usuario asignado")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Fecha de vencimiento mínima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+            @Parameter(description = "Fecha de vencimiento máxima (YYYY-MM-DD, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+            @Parameter(description = "Buscar en título y descripción (coincide por prefijo)")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "Cursor opaco devuelto como nextCursor (vacío para la primera página)")
+            @RequestParam String cursor,
+            @Parameter(hidden = true)
+            @RequestParam(required = false) String envelope,
+            @Parameter(description = "Cantidad de tareas por página")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (envelope != null) {
+            throw new BadRequestException("cursor no se puede combinar con envelope");
+        }
+        TaskFilter filter = new TaskFilter(status, priority, assigneeId, dueFrom, dueTo, search);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        CursorPage<TaskResponse> response = taskService.getTasksByCursor(filter, cursor, pageSize);
+
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(
             summary = "Obtener estadísticas del dashboard",
-            description = "Devuelve contadores: tareas por estado y tareas vencidas no completadas"
+            description = "Devuelve contadores: total, tareas por estado, por prioridad, por usuario asignado y tareas vencidas no completadas. "
+                    + "Incluye un ETag débil; con If-None-Match responde 304 si no cambiaron"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -105,17 +288,78 @@ public class TaskController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = TaskStatsDto.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Las estadísticas no cambiaron desde el ETag enviado en If-None-Match"
             )
     })
     @GetMapping("/stats")
     public ResponseEntity<TaskStatsDto> getStats() {
-        TaskStatsDto stats = taskService.getStats();
-        return ResponseEntity.ok(stats);
+        ETagged<TaskStatsDto> stats = taskQueryCache.getStats();
+        return ResponseEntity.ok()
+                .eTag(stats.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(stats.value());
+    }
+
+    @Operation(
+            summary = "Exportar todas las tareas",
+            description = "Transmite todas las tareas como NDJSON (una tarea por línea) o CSV, "
+                    + "leyendo la base con un cursor del servidor sin cargar el resultado completo en memoria"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Exportación en curso"
+            )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Formato de exportación (NDJSON, CSV)")
+            @RequestParam(defaultValue = "NDJSON") TaskExportFormat format
+    ) {
+        StreamingResponseBody body = outputStream -> taskExportService.export(format, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.mediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.extension() + "\"")
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Suscribirse a los cambios de tareas",
+            description = "Stream Server-Sent Events con cada creación, actualización, cambio de estado o borrado confirmado. "
+                    + "Cada evento lleva un id; al reconectar con Last-Event-ID se reenvían los eventos perdidos que sigan en el buffer "
+                    + "(si ya no están, o el id es de antes de un reinicio de la instancia, se envía un evento RESET). "
+                    + "Los clientes que no consumen a tiempo se desconectan"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream de eventos abierto",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+            )
+    })
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(
+            @Parameter(description = "Recibir solo cambios de tareas asignadas (antes o después del cambio) a este usuario")
+            @RequestParam(required = false) Long assigneeId,
+            @Parameter(description = "Recibir solo cambios de tareas que tengan (antes o después del cambio) este estado")
+            @RequestParam(required = false) Status status,
+            @Parameter(description = "Último id de evento recibido; alternativa al header Last-Event-ID")
+            @RequestParam(required = false) String lastEventId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader
+    ) {
+        String resumeFrom = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+        return taskEventBroadcaster.subscribe(assigneeId, status, resumeFrom);
     }
 
     @Operation(
             summary = "Obtener detalle de una tarea",
-            description = "Devuelve información completa de una tarea específica por su ID"
+            description = "Devuelve información completa de una tarea específica por su ID. "
+                    + "Incluye un ETag débil con la versión de la tarea y del asignado embebido (el mismo para JSON, CBOR y Smile); "
+                    + "con If-None-Match responde 304 si no cambió"
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -126,6 +370,10 @@ public class TaskController {
                             schema = @Schema(implementation = TaskResponse.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "La tarea no cambió desde el ETag enviado en If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Tarea no encontrada",
@@ -140,27 +388,56 @@ public class TaskController {
             @Parameter(description = "ID de la tarea a obtener")
             @PathVariable Long id
     ) {
-        Task task = taskService.getById(id);
+        TaskDetail detail = taskDetailCache.get(id);
 
-        TaskResponse response = new TaskResponse(
-                task.getId(),
-                task.getTitle(),
-                task.getDescription(),
-                task.getStatus(),
-                task.getPriority(),
-                task.getDueDate(),
-                task.getAssignee() != null ? new com.taskflow.dto.UserResponse(
-                        task.getAssignee().getId(), 
-                        task.getAssignee().getName(), 
-                        task.getAssignee().getEmail(), 
-                        task.getAssignee().getIsActive(), 
-                        task.getAssignee().getCreatedAt()
-                ) : null,
-                task.getCreatedAt(),
-                task.getUpdatedAt()   
-        );
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(detail))
+                .body(detail.task());
+    }
 
-        return ResponseEntity.ok(response);
+    @Operation(
+            summary = "Obtener campos seleccionados de una tarea",
+            description = "Devuelve solo los campos de fields (mismos nombres que el listado); la consulta selecciona "
+                    + "solo esas columnas. Incluye ETag débil con la versión de la tarea y del asignado si se pidió"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tarea encontrada"
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "La tarea no cambió desde el ETag enviado en If-None-Match"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Campo desconocido en fields",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Tarea no encontrada",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getTaskFieldsById(
+            @Parameter(description = "ID de la tarea a obtener")
+            @PathVariable Long id,
+            @Parameter(description = "Campos a incluir, separados por coma (ej. id,title,status)")
+            @RequestParam String fields
+    ) {
+        TaskFieldsRow row = taskService.getTaskFieldsById(id, TaskField.parse(fields));
+
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(row))
+                .body(row.fields());
     }
 
     @Operation(
@@ -219,6 +496,36 @@ public class TaskController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @Operation(
+            summary = "Crear tareas en lote",
+            description = "Registra varias tareas en una sola transacción con inserciones JDBC por lotes. "
+                    + "Los elementos inválidos se informan por posición sin abortar el resto del lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultado por elemento del lote",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lote vacío o demasiado grande",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createTasks(
+            @RequestBody List<CreateTaskRequest> createTaskRequests
+    ) {
+        return ResponseEntity.ok(taskService.createAll(createTaskRequests));
+    }
+
     @Operation(
             summary = "Actualizar tarea completa",
             description = "Reemplaza todos los campos de una tarea existente"
@@ -239,12 +546,22 @@ public class TaskController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Validación fallida"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Otra operación modificó la tarea al mismo tiempo"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match no coincide con la versión actual de la tarea"
             )
     })
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @Parameter(description = "ID de la tarea a actualizar")
             @PathVariable Long id,
+            @Parameter(description = "ETag de la versión que se quiere modificar (412 si la tarea cambió)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskRequest updateTaskRequest
     ) {
         Task updated = new Task();
@@ -254,7 +571,12 @@ public class TaskController {
         updated.setPriority(updateTaskRequest.priority());
         updated.setDueDate(updateTaskRequest.dueDate());
 
-        Task updateTask = taskService.update(id, updated, updateTaskRequest.assigneeId());
+        Task updateTask = taskService.update(
+                id,
+                updated,
+                updateTaskRequest.assigneeId(),
+                TaskETags.expectedVersion(ifMatch)
+        );
 
         TaskResponse response = new TaskResponse(
                 updateTask.getId(),
@@ -274,7 +596,9 @@ public class TaskController {
                 updateTask.getUpdatedAt()
         );
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(updateTask))
+                .body(response);
     }
 
     @Operation(
@@ -297,16 +621,26 @@ public class TaskController {
             @ApiResponse(
                     responseCode = "400",
                     description = "Status inválido"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Otra operación modificó la tarea al mismo tiempo"
+            ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "If-Match no coincide con la versión actual de la tarea"
             )
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @Parameter(description = "ID de la tarea a actualizar")
             @PathVariable Long id,
+            @Parameter(description = "ETag de la versión que se quiere modificar (412 si la tarea cambió)")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskStatusRequest updateTaskStatusRequest
     ) {
         Status newStatus = updateTaskStatusRequest.status();
-        Task updateTask = taskService.updateStatus(id, newStatus);  
+        Task updateTask = taskService.updateStatus(id, newStatus, TaskETags.expectedVersion(ifMatch));
 
         TaskResponse response = new TaskResponse(
             updateTask.getId(),
@@ -326,6 +660,38 @@ public class TaskController {
             updateTask.getUpdatedAt()
         );
 
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(updateTask))
+                .body(response);
+    }
+
+    @Operation(
+            summary = "Actualizar el estado de varias tareas",
+            description = "Aplica el mismo status a todas las tareas indicadas con un único UPDATE. "
+                    + "Los IDs inexistentes se informan por posición sin abortar el resto del lote"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Resultado por elemento del lote",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BatchResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validación fallida o lote demasiado grande"
+            )
+    })
+    @PatchMapping("/status/batch")
+    public ResponseEntity<BatchResponse> updateTaskStatuses(
+            @Valid @RequestBody BatchStatusUpdateRequest batchStatusUpdateRequest
+    ) {
+        BatchResponse response = taskService.updateStatusAll(
+                batchStatusUpdateRequest.ids(),
+                batchStatusUpdateRequest.status()
+        );
         return ResponseEntity.ok(response);
     }
 
@@ -351,4 +717,12 @@ public class TaskController {
         taskService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private static Pageable newestFirst(Pageable pageable) {
+        return PageRequest.of(
+                pageable.getPageNumber(),
+                pageable.getPageSize(),
+                Sort.by(Sort.Direction.DESC, "createdAt")
+        );
+    }
 }
@@ -0,0 +1,63 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.TaskDetail;
+import com.taskflow.dto.TaskFieldsRow;
+import com.taskflow.dto.UserResponse;
+import com.taskflow.exception.PreconditionFailedException;
+import com.taskflow.model.Task;
+
+import java.util.Objects;
+
+/*
+ * ETag de una tarea: W/"<version>-<hash del asignado>". La version (@Version) cubre solo los
+ * campos propios de la tarea; el hash cubre el asignado embebido (nombre, email, activo), que
+ * cambia sin tocar la version. Es debil porque el mismo valor se envia para JSON, CBOR y Smile:
+ * las representaciones son equivalentes pero no identicas byte a byte.
+ */
+final class TaskETags {
+
+    private TaskETags() {
+    }
+
+    static String of(Task task) {
+        return of(task.getVersion(), task.getAssignee() != null ? UserResponse.from(task.getAssignee()) : null);
+    }
+
+    static String of(TaskDetail detail) {
+        return of(detail.version(), detail.task().assignee());
+    }
+
+    static String of(TaskFieldsRow row) {
+        return of(row.version(), row.fields().get("assignee") instanceof UserResponse assignee ? assignee : null);
+    }
+
+    private static String of(Long version, UserResponse assignee) {
+        int assigneeHash = assignee == null ? 0
+                : Objects.hash(assignee.id(), assignee.name(), assignee.email(), assignee.isActive());
+        return "W/\"" + (version == null ? 0 : version) + "-" + Integer.toHexString(assigneeHash) + "\"";
+    }
+
+    /*
+     * Version esperada segun If-Match. null si no hay precondicion (header ausente o "*").
+     * Solo compara la version: un cambio del asignado no hace fallar una escritura de la tarea.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        int separator = tag.indexOf('-');
+        if (separator >= 0) {
+            tag = tag.substring(0, separator);
+        }
+        try {
+            return Long.valueOf(tag);
+        } catch (NumberFormatException exception) {
+            throw new PreconditionFailedException("If-Match no corresponde a ninguna version de la tarea");
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.taskflow.controller;
 
 import com.taskflow.dto.UserResponse;
-import com.taskflow.service.UserService;
+import com.taskflow.service.UserListCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -20,7 +20,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController {
 
-    private final UserService userService;
+    private final UserListCache userListCache;
 
     @Operation(
             summary = "Obtener todos los usuarios",
@@ -38,10 +38,7 @@ public class UserController {
     })
     @GetMapping
     public ResponseEntity<List<UserResponse>> getAll() {
-        List<UserResponse> users = userService.getAll()
-                .stream()
-                .map(UserResponse::from)
-                .toList();
+        List<UserResponse> users = userListCache.getAll();
         return ResponseEntity.ok(users);
     }
 
@@ -0,0 +1,27 @@
+package com.taskflow.dto;
+
+public record BatchItemResult(
+    int index,
+    Long id,
+    Outcome outcome,
+    String error
+) {
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        NOT_FOUND,
+        INVALID
+    }
+
+    public static BatchItemResult succeeded(int index, Long id, Outcome outcome) {
+        return new BatchItemResult(index, id, outcome, null);
+    }
+
+    public static BatchItemResult failed(int index, Long id, Outcome outcome, String error) {
+        return new BatchItemResult(index, id, outcome, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskflow.dto;
+
+import java.util.List;
+
+public record BatchResponse(
+    int succeeded,
+    int failed,
+    List<BatchItemResult> items
+) {
+    public static BatchResponse of(List<BatchItemResult> items) {
+        int succeeded = (int) items.stream().filter(BatchItemResult::isSuccess).count();
+        return new BatchResponse(succeeded, items.size() - succeeded, items);
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Status;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record BatchStatusUpdateRequest(
+    @NotEmpty(message = "La lista de IDs es obligatoria")
+    List<Long> ids,
+
+    @NotNull(message = "El estado es obligatorio")
+    Status status
+) {}
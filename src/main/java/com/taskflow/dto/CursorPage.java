@@ -0,0 +1,16 @@
+package com.taskflow.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorPage<T>(
+    List<T> content,
+    int size,
+    String nextCursor,
+    boolean hasNext
+) {
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, size, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,6 @@
+package com.taskflow.dto;
+
+public record ETagged<T>(
+    T value,
+    String etag
+) {}
@@ -0,0 +1,68 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Pagina de tareas normalizada: cada tarea referencia a su asignado por id y los
+ * usuarios van una sola vez en assignees, en lugar de repetirse en cada tarea.
+ */
+public record NormalizedTaskPage(
+    List<Item> content,
+    List<UserResponse> assignees,
+    int number,
+    int size,
+    long totalElements,
+    int totalPages
+) {
+    public record Item(
+        Long id,
+        String title,
+        String description,
+        Status status,
+        Priority priority,
+        LocalDate dueDate,
+        Long assigneeId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+    }
+
+    public static NormalizedTaskPage from(Page<TaskResponse> page) {
+        Map<Long, UserResponse> assignees = new LinkedHashMap<>();
+        List<Item> content = page.getContent().stream()
+                .map(task -> {
+                    UserResponse assignee = task.assignee();
+                    if (assignee != null) {
+                        assignees.putIfAbsent(assignee.id(), assignee);
+                    }
+                    return new Item(
+                            task.id(),
+                            task.title(),
+                            task.description(),
+                            task.status(),
+                            task.priority(),
+                            task.dueDate(),
+                            assignee != null ? assignee.id() : null,
+                            task.createdAt(),
+                            task.updatedAt()
+                    );
+                })
+                .toList();
+        return new NormalizedTaskPage(
+                content,
+                List.copyOf(assignees.values()),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+}
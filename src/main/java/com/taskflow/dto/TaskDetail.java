@@ -0,0 +1,16 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Task;
+
+/*
+ * Detalle inmutable de una tarea con su version (@Version): es lo que se cachea,
+ * nunca la entidad administrada por Hibernate.
+ */
+public record TaskDetail(
+    TaskResponse task,
+    long version
+) {
+    public static TaskDetail from(Task task) {
+        return new TaskDetail(TaskResponse.from(task), task.getVersion() != null ? task.getVersion() : 0);
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskflow.dto;
+
+import com.taskflow.event.TaskChangeType;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+
+import java.time.Instant;
+
+public record TaskEventMessage(
+    String id,
+    TaskChangeType type,
+    Long taskId,
+    TaskSnapshot task,
+    Instant occurredAt
+) {
+    public static TaskEventMessage of(String id, TaskChangedEvent event) {
+        return new TaskEventMessage(
+            id,
+            event.type(),
+            event.taskId(),
+            event.after() != null ? event.after() : event.before(),
+            event.occurredAt()
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.dto;
+
+import com.taskflow.exception.BadRequestException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * Campos que se pueden pedir con fields= en las lecturas de tareas. El nombre es
+ * la clave JSON de TaskResponse; assigneeId trae solo la FK, sin join a users.
+ * id siempre se incluye.
+ */
+public enum TaskField {
+
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    DUE_DATE("dueDate"),
+    ASSIGNEE_ID("assigneeId"),
+    ASSIGNEE("assignee"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String key;
+
+    TaskField(String key) {
+        this.key = key;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public static Set<TaskField> parse(String fields) {
+        Set<TaskField> selected = EnumSet.of(ID);
+        if (fields == null || fields.isBlank()) {
+            return selected;
+        }
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.key.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException(
+                            "Campo desconocido: " + trimmed + ". Campos validos: " + validKeys())));
+        }
+        return selected;
+    }
+
+    private static String validKeys() {
+        return Arrays.stream(values()).map(TaskField::key).collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,8 @@
+package com.taskflow.dto;
+
+import java.util.Map;
+
+public record TaskFieldsRow(
+    Long version,
+    Map<String, Object> fields
+) {}
@@ -0,0 +1,19 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+
+import java.time.LocalDate;
+
+public record TaskFilter(
+    Status status,
+    Priority priority,
+    Long assigneeId,
+    LocalDate dueFrom,
+    LocalDate dueTo,
+    String search
+) {
+    public boolean hasSearch() {
+        return search != null && !search.isBlank();
+    }
+}
@@ -18,6 +18,36 @@ public record TaskResponse(
     LocalDateTime createdAt,
     LocalDateTime updatedAt
 ) {
+    public TaskResponse(
+        Long id,
+        String title,
+        String description,
+        Status status,
+        Priority priority,
+        LocalDate dueDate,
+        Long assigneeId,
+        String assigneeName,
+        String assigneeEmail,
+        Boolean assigneeIsActive,
+        LocalDateTime assigneeCreatedAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+    ) {
+        this(
+            id,
+            title,
+            description,
+            status,
+            priority,
+            dueDate,
+            assigneeId != null
+                ? new UserResponse(assigneeId, assigneeName, assigneeEmail, assigneeIsActive, assigneeCreatedAt)
+                : null,
+            createdAt,
+            updatedAt
+        );
+    }
+
     public static TaskResponse from(Task task) {
         return new TaskResponse(
             task.getId(),
@@ -1,4 +1,17 @@
 package com.taskflow.dto;
 
-public record TaskStatsDto(long total, long inProgress, long completed, long overdue) {
-}
\ No newline at end of file
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+
+import java.util.Map;
+
+public record TaskStatsDto(
+    long total,
+    long inProgress,
+    long completed,
+    long overdue,
+    Map<Status, Long> byStatus,
+    Map<Priority, Long> byPriority,
+    Map<Long, Long> byAssignee,
+    long unassigned
+) {}
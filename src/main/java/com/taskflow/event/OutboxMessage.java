@@ -0,0 +1,21 @@
+package com.taskflow.event;
+
+import com.taskflow.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+/*
+ * Evento del outbox tal como lo recibe un OutboxSink.
+ * payload es el TaskChangedEvent serializado en JSON.
+ */
+public record OutboxMessage(
+    Long id,
+    Long taskId,
+    String type,
+    String payload,
+    LocalDateTime createdAt
+) {
+    public static OutboxMessage of(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getTaskId(), event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
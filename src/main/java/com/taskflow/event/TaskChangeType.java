@@ -0,0 +1,8 @@
+package com.taskflow.event;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,34 @@
+package com.taskflow.event;
+
+import java.time.Instant;
+
+/*
+ * Mutacion de una tarea publicada por TaskService.
+ * before es null en CREATED y after es null en DELETED.
+ */
+public record TaskChangedEvent(
+    TaskChangeType type,
+    TaskSnapshot before,
+    TaskSnapshot after,
+    Instant occurredAt
+) {
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, null, after, Instant.now());
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, before, after, Instant.now());
+    }
+
+    public static TaskChangedEvent statusChanged(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(TaskChangeType.STATUS_CHANGED, before, after, Instant.now());
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, before, null, Instant.now());
+    }
+
+    public Long taskId() {
+        return after != null ? after.id() : before.id();
+    }
+}
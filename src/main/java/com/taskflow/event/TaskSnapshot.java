@@ -0,0 +1,33 @@
+package com.taskflow.event;
+
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+
+import java.time.LocalDate;
+
+public record TaskSnapshot(
+    Long id,
+    Status status,
+    Priority priority,
+    Long assigneeId,
+    LocalDate dueDate
+) {
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+            task.getId(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getAssignee() != null ? task.getAssignee().getId() : null,
+            task.getDueDate()
+        );
+    }
+
+    public TaskSnapshot withStatus(Status newStatus) {
+        return new TaskSnapshot(id, newStatus, priority, assigneeId, dueDate);
+    }
+
+    public boolean isOverdue(LocalDate today) {
+        return dueDate != null && dueDate.isBefore(today) && status != Status.DONE;
+    }
+}
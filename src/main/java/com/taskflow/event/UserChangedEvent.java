@@ -0,0 +1,9 @@
+package com.taskflow.event;
+
+/*
+ * Cambio de un usuario publicado por UserService que afecta como se muestra
+ * como asignado en las tareas (por ejemplo isActive).
+ */
+public record UserChangedEvent(
+    Long userId
+) {}
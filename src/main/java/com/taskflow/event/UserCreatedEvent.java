@@ -0,0 +1,9 @@
+package com.taskflow.event;
+
+/*
+ * Alta de un usuario publicada por UserService. No afecta a las tareas (todavia no
+ * puede estar asignado), solo al listado de usuarios.
+ */
+public record UserCreatedEvent(
+    Long userId
+) {}
@@ -0,0 +1,49 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import jakarta.persistence.criteria.CriteriaQuery;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/*
+ * Busqueda full-text de PostgreSQL. Usa las funciones task_search_matches y
+ * task_search_rank definidas en V4__task_search.sql, que PostgreSQL expande en linea para
+ * aprovechar el indice GIN idx_tasks_search.
+ */
+@Component
+@ConditionalOnProperty(name = "taskflow.search.mode", havingValue = "fulltext", matchIfMissing = true)
+public class FullTextTaskSearch implements TaskSearch {
+
+    @Override
+    public Specification<Task> matches(String text) {
+        String tsQuery = toPrefixQuery(text);
+        if (tsQuery.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+
+        return (root, query, cb) -> {
+            if (!isCountQuery(query)) {
+                query.orderBy(cb.desc(cb.function("task_search_rank", Float.class,
+                        root.get("title"), root.get("description"), cb.literal(tsQuery))));
+            }
+            return cb.isTrue(cb.function("task_search_matches", Boolean.class,
+                    root.get("title"), root.get("description"), cb.literal(tsQuery)));
+        };
+    }
+
+    static String toPrefixQuery(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+
+    private static boolean isCountQuery(CriteriaQuery<?> query) {
+        return query == null || Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType());
+    }
+}
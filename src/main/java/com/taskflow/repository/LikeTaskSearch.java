@@ -0,0 +1,30 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/*
+ * Busqueda por LIKE para bases sin full-text de PostgreSQL (H2 en tests).
+ * No ordena por relevancia.
+ */
+@Component
+@ConditionalOnProperty(name = "taskflow.search.mode", havingValue = "like")
+public class LikeTaskSearch implements TaskSearch {
+
+    @Override
+    public Specification<Task> matches(String text) {
+        String pattern = "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, '\\'),
+                cb.like(cb.lower(root.get("description")), pattern, '\\')
+        );
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /*
+     * Toma y bloquea el siguiente lote listo para enviar.
+     * SKIP LOCKED saltea las filas que otro nodo ya tomo, asi varios dispatchers
+     * reparten el trabajo sin esperarse ni enviar dos veces la misma fila.
+     */
+    @Query(value = """
+            SELECT * FROM task_outbox
+            WHERE next_attempt_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    Optional<OutboxEvent> findFirstByOrderByIdAsc();
+}
@@ -0,0 +1,12 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+
+public record TaskCountRow(
+    Status status,
+    Priority priority,
+    Long assigneeId,
+    Long total,
+    Long overdue
+) {}
@@ -1,27 +1,80 @@
 package com.taskflow.repository;
 
-import com.taskflow.model.Priority;
+import com.taskflow.event.TaskSnapshot;
 import com.taskflow.model.Status;
 import com.taskflow.model.Task;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskResponseRepository {
 
-        Page<Task> findByStatus(Status status, Pageable pageable);
+        @EntityGraph(attributePaths = "assignee")
+        Optional<Task> findWithAssigneeById(Long id);
 
-        Page<Task> findByPriority(Priority priority, Pageable pageable);
+        @QueryHints({
+                @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+        })
+        @Query("select t from Task t left join fetch t.assignee order by t.id")
+        Stream<Task> streamAllWithAssignee();
 
-        Page<Task> findByAssigneeId(Long assigneeId, Pageable pageable);
+        @Query("""
+                select new com.taskflow.event.TaskSnapshot(t.id, t.status, t.priority, t.assignee.id, t.dueDate)
+                from Task t
+                where t.id in :ids
+                """)
+        List<TaskSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
 
-        Page<Task> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query("update Task t set t.status = :status, t.version = coalesce(t.version, 0) + 1, t.updatedAt = :updatedAt where t.id in :ids")
+        int updateStatusByIdIn(
+                @Param("ids") Collection<Long> ids,
+                @Param("status") Status status,
+                @Param("updatedAt") LocalDateTime updatedAt
+        );
 
-        long countByStatus(Status status);
+        @Modifying(flushAutomatically = true, clearAutomatically = true)
+        @Query("""
+                update Task t
+                set t.status = :status, t.version = coalesce(t.version, 0) + 1, t.updatedAt = :updatedAt
+                where t.id = :id and coalesce(t.version, 0) = :version
+                """)
+        int updateStatusIfVersion(
+                @Param("id") Long id,
+                @Param("status") Status status,
+                @Param("version") Long version,
+                @Param("updatedAt") LocalDateTime updatedAt
+        );
 
-        long countByDueDateBeforeAndStatusNot(LocalDate date, Status status);
-}
\ No newline at end of file
+        /* Base de los contadores en memoria: se lee del primario para no reconciliar con una replica atrasada */
+        @Transactional
+        @Query("""
+                select new com.taskflow.repository.TaskCountRow(
+                        t.status,
+                        t.priority,
+                        t.assignee.id,
+                        count(t),
+                        sum(case when t.dueDate < :today and t.status <> :done then 1L else 0L end)
+                )
+                from Task t
+                group by t.status, t.priority, t.assignee.id
+                """)
+        List<TaskCountRow> countGroupedByStatusPriorityAndAssignee(@Param("today") LocalDate today, @Param("done") Status done);
+}
@@ -0,0 +1,26 @@
+package com.taskflow.repository;
+
+import com.taskflow.dto.TaskField;
+import com.taskflow.dto.TaskFieldsRow;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface TaskResponseRepository {
+
+    Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable);
+
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+
+    Page<Map<String, Object>> findFields(Specification<Task> spec, Pageable pageable, Set<TaskField> fields);
+
+    Optional<TaskFieldsRow> findFieldsById(Long id, Set<TaskField> fields);
+}
@@ -0,0 +1,196 @@
+package com.taskflow.repository;
+
+import com.taskflow.dto.TaskField;
+import com.taskflow.dto.TaskFieldsRow;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.UserResponse;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * Lecturas de solo consulta que seleccionan directamente en TaskResponse:
+ * no se hidratan entidades Task/User, no entran al contexto de persistencia
+ * y nunca se lee password_hash.
+ */
+class TaskResponseRepositoryImpl implements TaskResponseRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TaskResponse> findResponses(Specification<Task> spec, Pageable pageable) {
+        TypedQuery<TaskResponse> query = createQuery(spec, pageable.getSort(), true);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        return createQuery(spec, sort, false)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /*
+     * keepSpecOrder conserva el orden que agregue la especificacion (relevancia de busqueda)
+     * por delante del Sort; el modo cursor lo descarta porque solo admite (createdAt, id).
+     */
+    private TypedQuery<TaskResponse> createQuery(Specification<Task> spec, Sort sort, boolean keepSpecOrder) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+        Join<Task, User> assignee = root.join("assignee", JoinType.LEFT);
+
+        query.select(cb.construct(TaskResponse.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("status"),
+                root.get("priority"),
+                root.get("dueDate"),
+                assignee.get("id"),
+                assignee.get("name"),
+                assignee.get("email"),
+                assignee.get("isActive"),
+                assignee.get("createdAt"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+        ));
+
+        applySpecification(query, root, cb, spec, sort, keepSpecOrder);
+        return entityManager.createQuery(query);
+    }
+
+    /*
+     * Lectura parcial (fields=): el SELECT incluye solo las columnas pedidas, asi una
+     * description grande (TOAST) no se lee ni se transfiere si no se pidio, y solo
+     * se hace el join a users cuando se pide assignee.
+     */
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Task> spec, Pageable pageable, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        query.multiselect(selections(root, fields));
+        applySpecification(query, root, cb, spec, pageable.getSort(), true);
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<Map<String, Object>> content = typedQuery.getResultList().stream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Optional<TaskFieldsRow> findFieldsById(Long id, Set<TaskField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        List<Selection<?>> selections = selections(root, fields);
+        selections.add(root.get("version"));
+        query.multiselect(selections);
+        query.where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(tuple -> new TaskFieldsRow(tuple.get(selections.size() - 1, Long.class), toMap(tuple, fields)));
+    }
+
+    private void applySpecification(CriteriaQuery<?> query, Root<Task> root, CriteriaBuilder cb,
+                                    Specification<Task> spec, Sort sort, boolean keepSpecOrder) {
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> orders = keepSpecOrder ? new ArrayList<>(query.getOrderList()) : new ArrayList<>();
+        orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        query.orderBy(orders);
+    }
+
+    /* El orden de las columnas es el de TaskField; assignee ocupa cinco */
+    private static List<Selection<?>> selections(Root<Task> root, Set<TaskField> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TaskField field : fields) {
+            switch (field) {
+                case ASSIGNEE_ID -> selections.add(root.get("assignee").get("id"));
+                case ASSIGNEE -> {
+                    Join<Task, User> assignee = root.join("assignee", JoinType.LEFT);
+                    selections.add(assignee.get("id"));
+                    selections.add(assignee.get("name"));
+                    selections.add(assignee.get("email"));
+                    selections.add(assignee.get("isActive"));
+                    selections.add(assignee.get("createdAt"));
+                }
+                default -> selections.add(root.get(field.key()));
+            }
+        }
+        return selections;
+    }
+
+    private static Map<String, Object> toMap(Tuple tuple, Set<TaskField> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int column = 0;
+        for (TaskField field : fields) {
+            if (field == TaskField.ASSIGNEE) {
+                Long assigneeId = tuple.get(column, Long.class);
+                row.put(field.key(), assigneeId == null ? null : new UserResponse(
+                        assigneeId,
+                        tuple.get(column + 1, String.class),
+                        tuple.get(column + 2, String.class),
+                        tuple.get(column + 3, Boolean.class),
+                        tuple.get(column + 4, LocalDateTime.class)
+                ));
+                column += 5;
+            } else {
+                row.put(field.key(), tuple.get(column++));
+            }
+        }
+        return row;
+    }
+
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
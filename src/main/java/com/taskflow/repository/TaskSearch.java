@@ -0,0 +1,13 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface TaskSearch {
+
+    /*
+     * Condicion de busqueda de texto sobre titulo y descripcion.
+     * Puede ademas ordenar por relevancia cuando la consulta no es un conteo.
+     */
+    Specification<Task> matches(String text);
+}
@@ -0,0 +1,79 @@
+package com.taskflow.repository;
+
+import com.taskflow.dto.TaskCursor;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /*
+     * Combina todos los filtros estructurados presentes con AND en una sola consulta.
+     * Los filtros nulos se ignoran; la busqueda de texto la agrega TaskSearch.
+     */
+    public static Specification<Task> matching(TaskFilter filter) {
+        List<Specification<Task>> specs = new ArrayList<>();
+        if (filter.status() != null) {
+            specs.add(hasStatus(filter.status()));
+        }
+        if (filter.priority() != null) {
+            specs.add(hasPriority(filter.priority()));
+        }
+        if (filter.assigneeId() != null) {
+            specs.add(hasAssignee(filter.assigneeId()));
+        }
+        if (filter.dueFrom() != null) {
+            specs.add(dueOnOrAfter(filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            specs.add(dueOnOrBefore(filter.dueTo()));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Task> hasStatus(Status status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Task> hasAssignee(Long assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+    }
+
+    /*
+     * Condicion de keyset para orden (created_at DESC, id DESC): filas estrictamente
+     * posteriores al cursor. El "created_at <= ?" redundante acota el recorrido del indice.
+     */
+    public static Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> cb.and(
+            cb.lessThanOrEqualTo(root.get("createdAt"), cursor.createdAt()),
+            cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                    cb.equal(root.get("createdAt"), cursor.createdAt()),
+                    cb.lessThan(root.get("id"), cursor.id())
+                )
+            )
+        );
+    }
+}
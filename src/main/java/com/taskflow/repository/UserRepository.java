@@ -1,15 +1,27 @@
 package com.taskflow.repository;
 
+import com.taskflow.dto.UserResponse;
 import com.taskflow.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    Optional<User> findByEmail(String email);
+    /*
+     * Sin distinguir mayusculas; usa el indice idx_users_email_lower (V2).
+     */
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
 
-    boolean existsByEmail(String email);
-}
\ No newline at end of file
+    @Query("select case when count(u) > 0 then true else false end from User u where lower(u.email) = lower(:email)")
+    boolean existsByEmail(@Param("email") String email);
+
+    @Query("select new com.taskflow.dto.UserResponse(u.id, u.name, u.email, u.isActive, u.createdAt) from User u order by u.id")
+    List<UserResponse> findAllResponses();
+}
@@ -3,24 +3,32 @@ package com.taskflow.service;
 import com.taskflow.exception.UnauthorizedException;
 import com.taskflow.model.User;
 import com.taskflow.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@Observed(name = "taskflow.service")
 @RequiredArgsConstructor
 public class AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserService userService;
+    private final PasswordVerifier passwordVerifier;
 
     public User login(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UnauthorizedException("Credenciales invalidas"));
     
-        if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+        if (!passwordVerifier.matches(password, user.getPasswordHash())) {
             throw new UnauthorizedException("Credenciales invalidas");
         }
+
+        if (passwordVerifier.needsRehash(user.getPasswordHash())) {
+            String passwordHash = passwordVerifier.encode(password);
+            userService.updatePasswordHash(user.getId(), passwordHash);
+            user.setPasswordHash(passwordHash);
+        }
         return user;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,31 @@
+package com.taskflow.service;
+
+import com.taskflow.event.OutboxMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/*
+ * Sink en memoria para tests y desarrollo local.
+ */
+@Component
+@ConditionalOnProperty(name = "taskflow.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final ConcurrentLinkedQueue<OutboxMessage> received = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void send(List<OutboxMessage> messages) {
+        received.addAll(messages);
+    }
+
+    public List<OutboxMessage> received() {
+        return List.copyOf(received);
+    }
+
+    public void clear() {
+        received.clear();
+    }
+}
@@ -0,0 +1,138 @@
+package com.taskflow.service;
+
+import com.taskflow.event.OutboxMessage;
+import com.taskflow.model.OutboxEvent;
+import com.taskflow.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Vacia task_outbox en lotes fuera del camino de escritura.
+ * Cada lote se toma con FOR UPDATE SKIP LOCKED en su propia transaccion, se envia
+ * al OutboxSink y se borra; si el envio falla, las filas quedan con un reintento
+ * programado (backoff exponencial acotado) y el lock se libera con el commit.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskflow.outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+@Lazy(false)
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    private final Counter dispatched;
+    private final Counter failed;
+    private final Timer batchTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxDispatcher(
+            OutboxEventRepository outboxEventRepository,
+            OutboxSink sink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.outbox.batch-size:200}") int batchSize,
+            @Value("${taskflow.outbox.max-batches-per-run:50}") int maxBatchesPerRun,
+            @Value("${taskflow.outbox.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${taskflow.outbox.max-backoff:5m}") Duration maxBackoff
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        this.dispatched = Counter.builder("taskflow.outbox.dispatched")
+                .description("Eventos del outbox entregados al sink")
+                .register(meterRegistry);
+        this.failed = Counter.builder("taskflow.outbox.failed")
+                .description("Eventos del outbox cuyo envio fallo y se reprogramo")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("taskflow.outbox.batch")
+                .description("Duracion de cada lote (bloqueo, envio y borrado)")
+                .register(meterRegistry);
+        Gauge.builder("taskflow.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .description("Antiguedad del evento pendiente mas viejo")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer sent = batchTimer.record(() -> transactionTemplate.execute(status -> dispatchBatch()));
+            if (sent == null || sent < batchSize) {
+                break;
+            }
+        }
+        updateLag();
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(LocalDateTime.now(), batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            sink.send(events.stream().map(OutboxMessage::of).toList());
+        } catch (Exception exception) {
+            log.warn("Fallo el envio de {} eventos del outbox: {}", events.size(), exception.toString());
+            reschedule(events, exception);
+            failed.increment(events.size());
+            return 0;
+        }
+
+        outboxEventRepository.deleteAllInBatch(events);
+        dispatched.increment(events.size());
+        return events.size();
+    }
+
+    private void reschedule(List<OutboxEvent> events, Exception exception) {
+        LocalDateTime now = LocalDateTime.now();
+        String error = String.valueOf(exception.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        for (OutboxEvent event : events) {
+            event.setAttempts(event.getAttempts() + 1);
+            event.setNextAttemptAt(now.plus(backoff(event.getAttempts())));
+            event.setLastError(error);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void updateLag() {
+        lagMillis.set(outboxEventRepository.findFirstByOrderByIdAsc()
+                .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), LocalDateTime.now()).toMillis()))
+                .orElse(0L));
+    }
+}
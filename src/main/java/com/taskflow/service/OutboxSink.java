@@ -0,0 +1,16 @@
+package com.taskflow.service;
+
+import com.taskflow.event.OutboxMessage;
+
+import java.util.List;
+
+/*
+ * Destino de los eventos del outbox (broker, webhook, archivo...).
+ * Recibe un lote en orden de id; si lanza una excepcion el lote completo se reintenta,
+ * por lo que la entrega es "al menos una vez" y el consumidor debe tolerar duplicados
+ * (el id del mensaje sirve para descartarlos).
+ */
+public interface OutboxSink {
+
+    void send(List<OutboxMessage> messages) throws Exception;
+}
@@ -0,0 +1,36 @@
+package com.taskflow.service;
+
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.model.OutboxEvent;
+import com.taskflow.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+
+/*
+ * Escribe cada TaskChangedEvent en task_outbox antes del commit, dentro de la
+ * misma transaccion que el cambio de la tarea: o se confirman los dos o ninguno.
+ * El INSERT se agrupa en lotes JDBC con el resto del flush y no agrega un viaje
+ * extra a la base por evento.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onTaskChanged(TaskChangedEvent event) {
+        outboxEventRepository.save(new OutboxEvent(
+                event.taskId(),
+                event.type().name(),
+                objectMapper.writeValueAsString(event),
+                LocalDateTime.now()
+        ));
+    }
+}
@@ -0,0 +1,157 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Verificacion de contraseñas fuera del hilo del request.
+ * BCrypt corre en un pool propio y acotado (hilos + cola); una rafaga de logins no puede
+ * ocupar mas que eso y el excedente se rechaza con 429.
+ * Las verificaciones exitosas se recuerdan por poco tiempo bajo un HMAC de
+ * (hash guardado, contraseña) con clave aleatoria por proceso, asi un login repetido
+ * no vuelve a pagar BCrypt y nunca se guarda la contraseña en claro.
+ */
+@Service
+public class PasswordVerifier {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int strength;
+    private final long timeoutMillis;
+    private final Cache<String, Boolean> verifiedCredentials;
+    private final SecretKeySpec hmacKey;
+
+    public PasswordVerifier(
+            PasswordEncoder passwordEncoder,
+            @Value("${taskflow.security.bcrypt.threads:0}") int threads,
+            @Value("${taskflow.security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${taskflow.security.bcrypt.strength:10}") int strength,
+            @Value("${taskflow.security.bcrypt.timeout:5s}") Duration timeout,
+            @Value("${taskflow.security.credential-cache.ttl:5m}") Duration cacheTtl,
+            @Value("${taskflow.security.credential-cache.max-size:10000}") long cacheMaxSize
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = newHashingExecutor(threads, queueCapacity);
+        this.strength = strength;
+        this.timeoutMillis = timeout.toMillis();
+        this.verifiedCredentials = Caffeine.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaxSize)
+                .build();
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        String fingerprint = fingerprint(rawPassword, encodedPassword);
+        if (verifiedCredentials.getIfPresent(fingerprint) != null) {
+            return true;
+        }
+
+        boolean matches = runBounded(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        if (matches) {
+            verifiedCredentials.put(fingerprint, Boolean.TRUE);
+        }
+        return matches;
+    }
+
+    public String encode(String rawPassword) {
+        return runBounded(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException exception) {
+            return false;
+        }
+    }
+
+    private static ThreadPoolExecutor newHashingExecutor(int threads, int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bcrypt-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    private <T> T runBounded(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            throw new TooManyRequestsException("Demasiados logins simultaneos, reintente en unos segundos", 1);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            throw new TooManyRequestsException("Demasiados logins simultaneos, reintente en unos segundos", 1);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Verificacion de contraseña interrumpida", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    private String fingerprint(String rawPassword, String encodedPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.dto.TaskDetail;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Cache de GET /api/tasks/{id}. Guarda TaskDetail (inmutable) con la generacion leida
+ * antes de consultar la base, igual que TaskQueryCache: un cambio confirmado avanza la
+ * generacion de su franja de ids, asi una lectura que empezo antes del commit y guarda
+ * el valor viejo despues queda vieja en el siguiente acceso. Las generaciones van por
+ * franjas (id modulo STRIPES) para no crecer con la cantidad de tareas; un cambio solo
+ * recarga de mas las otras tareas de la misma franja. Un UserChangedEvent invalida todo
+ * (el detalle incluye al asignado).
+ */
+@Component
+public class TaskDetailCache {
+
+    private static final int STRIPES = 1024;
+
+    private final TaskService taskService;
+    private final Cache<Long, Entry> cache;
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public TaskDetailCache(
+            TaskService taskService,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.cache.spec}") String spec) {
+        this.taskService = taskService;
+        this.cache = Caffeine.from(spec).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tasks");
+    }
+
+    public TaskDetail get(Long id) {
+        Stamp stamp = stampFor(id);
+        Entry entry = cache.getIfPresent(id);
+        if (entry == null || !entry.stamp().equals(stamp)) {
+            entry = new Entry(stamp, taskService.getDetail(id));
+            cache.put(id, entry);
+        }
+        return entry.detail();
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        Long id = event.after() != null ? event.after().id() : event.before().id();
+        generations.incrementAndGet(stripe(id));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll();
+    }
+
+    private Stamp stampFor(Long id) {
+        return new Stamp(epoch.get(), generations.get(stripe(id)));
+    }
+
+    private static int stripe(Long id) {
+        return (int) Math.floorMod(id, (long) STRIPES);
+    }
+
+    private record Stamp(long epoch, long generation) {
+    }
+
+    private record Entry(Stamp stamp, TaskDetail detail) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskEventMessage;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.Status;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Difusion de cambios de tareas por Server-Sent Events.
+ * Cada evento confirmado se guarda en un buffer circular (para reanudar con Last-Event-ID)
+ * y se encola en cada suscriptor que coincida con su filtro. Las colas son acotadas: un
+ * cliente que no consume a tiempo se desconecta y al reconectarse recupera lo perdido
+ * desde el buffer. El envio corre en hilos virtuales, uno por suscriptor con datos pendientes;
+ * un suscriptor inactivo no ocupa ningun hilo.
+ * Los ids son "<arranque>-<secuencia>": la secuencia vuelve a 1 en cada arranque, y un
+ * Last-Event-ID de otro arranque (reinicio o failover a otra instancia) recibe RESET en lugar
+ * de esperar en silencio a que la secuencia nueva lo alcance.
+ */
+@Service
+@Lazy(false)
+public class TaskEventBroadcaster {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final RecentEvent[] recentEvents;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-", 0).factory());
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final String bootId = UUID.randomUUID().toString().substring(0, 8);
+
+    private long lastEventId;
+
+    public TaskEventBroadcaster(
+            @Value("${taskflow.events.replay-size:1024}") int replaySize,
+            @Value("${taskflow.events.subscriber-buffer-size:256}") int bufferSize,
+            @Value("${taskflow.events.emitter-timeout:30m}") Duration emitterTimeout
+    ) {
+        this.recentEvents = new RecentEvent[replaySize];
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    public SseEmitter subscribe(Long assigneeId, Status status, String lastSeenEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMillis), assigneeId, status, bufferSize);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        List<Subscriber> overflowed = new ArrayList<>();
+        lock.lock();
+        try {
+            if (lastSeenEventId != null) {
+                replay(subscriber, lastSeenEventId, overflowed);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        disconnect(overflowed);
+        scheduleSend(subscriber);
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<Subscriber> ready = new ArrayList<>();
+        List<Subscriber> overflowed = new ArrayList<>();
+        lock.lock();
+        try {
+            long sequence = ++lastEventId;
+            TaskEventMessage message = TaskEventMessage.of(bootId + "-" + sequence, event);
+            recentEvents[(int) (sequence % recentEvents.length)] = new RecentEvent(sequence, event, message);
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.matches(event) && enqueue(subscriber, toSse(message), overflowed)) {
+                    ready.add(subscriber);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        disconnect(overflowed);
+        ready.forEach(this::scheduleSend);
+    }
+
+    @Scheduled(fixedDelayString = "${taskflow.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        List<Subscriber> overflowed = new ArrayList<>();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty() && enqueue(subscriber, SseEmitter.event().comment("keepalive"), overflowed)) {
+                scheduleSend(subscriber);
+            }
+        }
+        disconnect(overflowed);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+
+    /*
+     * Un id de otro arranque, ilegible o mas nuevo que el ultimo emitido no se puede ubicar en
+     * el buffer: se envia RESET y el stream sigue desde el proximo evento.
+     */
+    private void replay(Subscriber subscriber, String lastSeenEventId, List<Subscriber> overflowed) {
+        long lastSeen = sequenceOf(lastSeenEventId);
+        long oldestAvailable = Math.max(1, lastEventId - recentEvents.length + 1);
+        if (lastSeen < 0 || lastSeen > lastEventId || lastSeen + 1 < oldestAvailable) {
+            enqueue(subscriber, SseEmitter.event().name("RESET").data("Eventos perdidos, volver a cargar el listado"), overflowed);
+            if (lastSeen < 0 || lastSeen > lastEventId) {
+                return;
+            }
+        }
+        for (long sequence = Math.max(lastSeen + 1, oldestAvailable); sequence <= lastEventId; sequence++) {
+            RecentEvent recent = recentEvents[(int) (sequence % recentEvents.length)];
+            if (recent != null && recent.sequence() == sequence && subscriber.matches(recent.source())) {
+                enqueue(subscriber, toSse(recent.message()), overflowed);
+            }
+        }
+    }
+
+    /* Secuencia de un id de este arranque, o -1 si es de otro arranque o no tiene el formato */
+    private long sequenceOf(String eventId) {
+        String prefix = bootId + "-";
+        if (!eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    /*
+     * Solo marca cerrado al suscriptor cuya cola se lleno y lo agrega a overflowed: se llama
+     * con el lock tomado, y completar el emitter puede bloquear en la escritura de la respuesta.
+     */
+    private boolean enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event, List<Subscriber> overflowed) {
+        if (subscriber.closed.get()) {
+            return false;
+        }
+        if (!subscriber.queue.offer(event)) {
+            if (subscriber.closed.compareAndSet(false, true)) {
+                overflowed.add(subscriber);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /* Fuera del lock: deja de recibir eventos ya y el emitter se completa en un hilo de envio */
+    private void disconnect(List<Subscriber> overflowed) {
+        for (Subscriber subscriber : overflowed) {
+            remove(subscriber);
+            senders.execute(subscriber.emitter::complete);
+        }
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null && !subscriber.closed.get()) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException exception) {
+            subscriber.closed.set(true);
+            remove(subscriber);
+        } finally {
+            subscriber.sending.set(false);
+        }
+        scheduleSend(subscriber);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscribers.remove(subscriber);
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(TaskEventMessage message) {
+        return SseEmitter.event()
+                .id(message.id())
+                .name(message.type().name())
+                .data(message, MediaType.APPLICATION_JSON);
+    }
+
+    private record RecentEvent(long sequence, TaskChangedEvent source, TaskEventMessage message) {
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Long assigneeId;
+        private final Status status;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, Long assigneeId, Status status, int bufferSize) {
+            this.emitter = emitter;
+            this.assigneeId = assigneeId;
+            this.status = status;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean matches(TaskChangedEvent event) {
+            return matches(event.before()) || matches(event.after());
+        }
+
+        private boolean matches(TaskSnapshot task) {
+            return task != null
+                    && (assigneeId == null || Objects.equals(assigneeId, task.assigneeId()))
+                    && (status == null || status == task.status());
+        }
+    }
+}
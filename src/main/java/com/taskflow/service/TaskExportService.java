@@ -0,0 +1,100 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskExportFormat;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/*
+ * Exportacion completa de tareas recorriendo un cursor del servidor.
+ * Cada CHUNK_SIZE filas se vacia el buffer de salida y el contexto de persistencia,
+ * de modo que la memoria usada no depende de la cantidad de tareas.
+ */
+@Service
+@Observed(name = "taskflow.service")
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,dueDate,assigneeId,assigneeName,assigneeEmail,createdAt,updatedAt\n";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void export(TaskExportFormat format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        try (Stream<Task> tasks = taskRepository.streamAllWithAssignee()) {
+            Iterator<Task> iterator = tasks.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                TaskResponse task = TaskResponse.from(iterator.next());
+                if (format == TaskExportFormat.CSV) {
+                    writeCsv(task, writer);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(task));
+                    writer.write('\n');
+                }
+
+                if (++written % CHUNK_SIZE == 0) {
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsv(TaskResponse task, Writer writer) throws IOException {
+        boolean assigned = task.assignee() != null;
+        writer.write(String.join(",",
+                csv(task.id()),
+                csv(task.title()),
+                csv(task.description()),
+                csv(task.status()),
+                csv(task.priority()),
+                csv(task.dueDate()),
+                csv(assigned ? task.assignee().id() : null),
+                csv(assigned ? task.assignee().name() : null),
+                csv(assigned ? task.assignee().email() : null),
+                csv(task.createdAt()),
+                csv(task.updatedAt())
+        ));
+        writer.write('\n');
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
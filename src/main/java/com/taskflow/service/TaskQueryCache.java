@@ -0,0 +1,182 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.dto.ETagged;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.TaskStatsDto;
+import com.taskflow.dto.UserResponse;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.event.UserChangedEvent;
+import com.taskflow.model.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Cache de resultados delante de TaskService.getTasks y getStats.
+ * Cada entrada guarda la generacion con la que se leyo; un acierto con la generacion
+ * actual no toca la base (ni abre transaccion). Las generaciones avanzan al confirmar
+ * cada TaskChangedEvent, por dimension:
+ *   - filtro con status: solo los cambios que tocan ese estado (antes o despues)
+ *   - filtro con assigneeId (sin status): solo los cambios de ese asignado
+ *   - resto: cualquier cambio
+ * Un UserChangedEvent o invalidateAll() invalidan todo (epoch). La generacion se lee
+ * antes de consultar, asi una entrada cargada durante un cambio queda vieja en el
+ * siguiente acceso. El ETag sale de la misma generacion: nunca es mas nuevo que el
+ * contenido. Las escrituras que no pasan por TaskService no invalidan el cache.
+ * Los fallos se cargan desde el primario: una replica atrasada guardaria una pagina vieja
+ * bajo la generacion actual y nada la invalidaria hasta el siguiente cambio.
+ */
+@Component
+public class TaskQueryCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 256;
+    private static final long TASK_OVERHEAD_BYTES = 200;
+    private static final long USER_OVERHEAD_BYTES = 120;
+
+    private final TaskService taskService;
+    private final TaskStatsStore taskStatsStore;
+    private final Cache<Key, Entry> cache;
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+    private final AtomicLong epoch = new AtomicLong();
+    private final AtomicLong global = new AtomicLong();
+    private final Map<Status, AtomicLong> byStatus = new EnumMap<>(Status.class);
+    private final ConcurrentMap<Long, AtomicLong> byAssignee = new ConcurrentHashMap<>();
+
+    public TaskQueryCache(
+            TaskService taskService,
+            TaskStatsStore taskStatsStore,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.query-cache.max-size:64MB}") DataSize maxSize,
+            @Value("${taskflow.query-cache.ttl:5m}") Duration ttl) {
+        this.taskService = taskService;
+        this.taskStatsStore = taskStatsStore;
+        for (Status status : Status.values()) {
+            byStatus.put(status, new AtomicLong());
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "taskQueries");
+    }
+
+    public ETagged<Page<TaskResponse>> getTasks(TaskFilter filter, Pageable pageable) {
+        TaskFilter normalized = normalize(filter);
+        Key key = new Key(normalized, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        Stamp stamp = stampFor(normalized);
+
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null || !entry.stamp().equals(stamp)) {
+            entry = new Entry(stamp, taskService.getTasksFromPrimary(normalized, pageable));
+            cache.put(key, entry);
+        }
+        return new ETagged<>(entry.page(), etag("t", entry.stamp().epoch(), entry.stamp().generation()));
+    }
+
+    public ETagged<TaskStatsDto> getStats() {
+        long version = taskStatsStore.version();
+        return new ETagged<>(taskService.getStats(), etag("s", 0, version));
+    }
+
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        global.incrementAndGet();
+        bump(event.before());
+        bump(event.after());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll();
+    }
+
+    private void bump(TaskSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        byStatus.get(snapshot.status()).incrementAndGet();
+        if (snapshot.assigneeId() != null) {
+            assigneeGeneration(snapshot.assigneeId()).incrementAndGet();
+        }
+    }
+
+    private Stamp stampFor(TaskFilter filter) {
+        long currentEpoch = epoch.get();
+        if (filter.status() != null) {
+            return new Stamp(currentEpoch, byStatus.get(filter.status()).get());
+        }
+        if (filter.assigneeId() != null) {
+            return new Stamp(currentEpoch, assigneeGeneration(filter.assigneeId()).get());
+        }
+        return new Stamp(currentEpoch, global.get());
+    }
+
+    private AtomicLong assigneeGeneration(Long assigneeId) {
+        return byAssignee.computeIfAbsent(assigneeId, id -> new AtomicLong());
+    }
+
+    /*
+     * El id de instancia evita que un ETag de otro nodo o de antes de un reinicio coincida.
+     * Es debil: el mismo valor se envia para JSON, CBOR y Smile, y con gzip o sin comprimir
+     */
+    private String etag(String kind, long epoch, long generation) {
+        return "W/\"" + kind + "-" + instanceId + "-" + epoch + "-" + generation + "\"";
+    }
+
+    /* Ambas busquedas ignoran mayusculas y espacios en los extremos */
+    private static TaskFilter normalize(TaskFilter filter) {
+        String search = filter.hasSearch() ? filter.search().trim().toLowerCase(Locale.ROOT) : null;
+        return new TaskFilter(filter.status(), filter.priority(), filter.assigneeId(), filter.dueFrom(), filter.dueTo(), search);
+    }
+
+    private record Key(TaskFilter filter, int page, int size, String sort) {
+    }
+
+    private record Stamp(long epoch, long generation) {
+    }
+
+    private record Entry(Stamp stamp, Page<TaskResponse> page) {
+
+        /* Estimacion de bytes retenidos: cadenas (2 bytes por caracter) mas overhead por objeto */
+        int weight() {
+            long bytes = ENTRY_OVERHEAD_BYTES;
+            for (TaskResponse task : page.getContent()) {
+                bytes += TASK_OVERHEAD_BYTES + 2L * (length(task.title()) + length(task.description()));
+                UserResponse assignee = task.assignee();
+                if (assignee != null) {
+                    bytes += USER_OVERHEAD_BYTES + 2L * (length(assignee.name()) + length(assignee.email()));
+                }
+            }
+            return (int) Math.min(bytes, Integer.MAX_VALUE);
+        }
+
+        private static int length(String value) {
+            return value != null ? value.length() : 0;
+        }
+    }
+}
@@ -1,90 +1,314 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.BatchItemResult;
+import com.taskflow.dto.BatchResponse;
+import com.taskflow.dto.CreateTaskRequest;
+import com.taskflow.dto.CursorPage;
+import com.taskflow.dto.TaskCursor;
+import com.taskflow.dto.TaskDetail;
+import com.taskflow.dto.TaskField;
+import com.taskflow.dto.TaskFieldsRow;
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.dto.TaskResponse;
 import com.taskflow.dto.TaskStatsDto;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.ConflictException;
+import com.taskflow.exception.PreconditionFailedException;
 import com.taskflow.exception.ResourceNotFoundException;
-import com.taskflow.model.Priority;
 import com.taskflow.model.Status;
 import com.taskflow.model.Task;
 import com.taskflow.model.User;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.TaskSearch;
+import com.taskflow.repository.TaskSpecifications;
 import com.taskflow.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
+@Observed(name = "taskflow.service")
 @RequiredArgsConstructor
 
 public class TaskService {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final UserService userService;
+    private final TaskSearch taskSearch;
+    private final TaskStatsStore taskStatsStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
 
-    public Page<Task> getTasks(Status status, Priority priority, Long assigneeId, String search, Pageable pageable) {
-        if (status != null) {
-            return taskRepository.findByStatus(status, pageable);
-        }
-    
-        if (priority != null) {
-            return taskRepository.findByPriority(priority, pageable);
-        }
-        if (assigneeId != null) {
-            return taskRepository.findByAssigneeId(assigneeId, pageable);
-        }
-        if (search != null && !search.isBlank()) {
-            return taskRepository.findByTitleContainingIgnoreCase(search, pageable);
+    @Value("${taskflow.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getTasks(TaskFilter filter, Pageable pageable) {
+        return taskRepository.findResponses(specificationFor(filter), pageable);
+    }
+
+    /* Carga de TaskQueryCache: la pagina se sirve a todos los clientes, se lee del primario y no de una replica */
+    @Transactional
+    public Page<TaskResponse> getTasksFromPrimary(TaskFilter filter, Pageable pageable) {
+        return taskRepository.findResponses(specificationFor(filter), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByCursor(TaskFilter filter, String cursor, int size) {
+        Specification<Task> spec = specificationFor(filter);
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(TaskSpecifications.after(TaskCursor.decode(cursor)));
         }
-        return taskRepository.findAll(pageable);
+
+        List<TaskResponse> rows = taskRepository.findResponses(spec, KEYSET_SORT, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<TaskResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? TaskCursor.of(content.get(content.size() - 1)).encode() : null;
+        return new CursorPage<>(content, size, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getTaskFields(TaskFilter filter, Pageable pageable, Set<TaskField> fields) {
+        return taskRepository.findFields(specificationFor(filter), pageable, fields);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskFieldsRow getTaskFieldsById(Long id, Set<TaskField> fields) {
+        return taskRepository.findFieldsById(id, fields)
+                .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada: " + id));
     }
 
+    @Transactional
     public Task getById(Long id ) {
-        return taskRepository.findById(id)
+        return taskRepository.findWithAssigneeById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Tarea no encontrada: " + id));
     }
 
+    /* Carga de TaskDetailCache: se cachea para todos los clientes, se lee del primario y no de una replica */
+    @Transactional
+    public TaskDetail getDetail(Long id) {
+        return TaskDetail.from(getById(id));
+    }
+
+    @Transactional
     public Task create(Task task, Long assigneeId) {
         task.setAssignee(resolveAssignee(assigneeId));
-        return taskRepository.save(task);
+        Task created = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(created)));
+        return created;
+    }
+
+    @Transactional
+    public BatchResponse createAll(List<CreateTaskRequest> requests) {
+        checkBatchSize(requests.size());
+        Map<Long, User> assignees = findAssignees(requests);
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateTaskRequest request = requests.get(index);
+            String error = validate(request, assignees);
+            if (error != null) {
+                results[index] = BatchItemResult.failed(index, null, BatchItemResult.Outcome.INVALID, error);
+                continue;
+            }
+
+            Task task = new Task();
+            task.setTitle(request.title());
+            task.setDescription(request.description());
+            task.setStatus(request.status());
+            task.setPriority(request.priority());
+            task.setDueDate(request.dueDate());
+            task.setAssignee(request.assigneeId() != null ? assignees.get(request.assigneeId()) : null);
+            tasks.add(task);
+            indexes.add(index);
+        }
+
+        List<Task> saved = taskRepository.saveAll(tasks);
+        for (int i = 0; i < saved.size(); i++) {
+            Task task = saved.get(i);
+            int index = indexes.get(i);
+            results[index] = BatchItemResult.succeeded(index, task.getId(), BatchItemResult.Outcome.CREATED);
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+        }
+        return BatchResponse.of(Arrays.asList(results));
     }
 
-    public Task update(Long id, Task updated, Long assigneeId) {
+    @Transactional
+    public Task update(Long id, Task updated, Long assigneeId, Long expectedVersion) {
         Task existing = getById(id);
+        checkVersion(existing, expectedVersion);
+        TaskSnapshot before = TaskSnapshot.of(existing);
         existing.setTitle(updated.getTitle());
         existing.setDescription(updated.getDescription());
         existing.setStatus(updated.getStatus());
         existing.setPriority(updated.getPriority());
         existing.setDueDate(updated.getDueDate());
         existing.setAssignee(resolveAssignee(assigneeId));
-        return taskRepository.save(existing);
+        Task saved = taskRepository.save(existing);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(saved)));
+        return saved;
     }
 
-        public Task updateStatus(Long id, Status status) {
+    /*
+     * Lectura + UPDATE condicional (dos viajes a la base). La lectura no se puede evitar: da el
+     * estado anterior que necesitan los consumidores de TaskChangedEvent (contadores, cache de
+     * paginas, SSE, outbox) y el asignado de la respuesta y del ETag; sin un RETURNING portable
+     * (H2 en tests no lo tiene) el UPDATE no puede devolverlos. Lo que se evita es el merge y el
+     * flush de la entidad; un cambio entre la lectura y el UPDATE se detecta por la version.
+     */
+    @Transactional
+    public Task updateStatus(Long id, Status status, Long expectedVersion) {
         Task existing = getById(id);
+        checkVersion(existing, expectedVersion);
+        TaskSnapshot before = TaskSnapshot.of(existing);
+
+        LocalDateTime now = LocalDateTime.now();
+        long version = versionOf(existing);
+        if (taskRepository.updateStatusIfVersion(id, status, version, now) == 0) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("La tarea fue modificada: " + id);
+            }
+            throw new ConflictException("La tarea fue modificada por otra operacion: " + id);
+        }
+
+        // El UPDATE condicional limpio el contexto: existing queda desacoplada y se refleja el cambio en memoria
         existing.setStatus(status);
-        return taskRepository.save(existing);
+        existing.setVersion(version + 1);
+        existing.setUpdatedAt(now);
+        eventPublisher.publishEvent(TaskChangedEvent.statusChanged(before, TaskSnapshot.of(existing)));
+        return existing;
+    }
+
+    @Transactional
+    public BatchResponse updateStatusAll(List<Long> ids, Status status) {
+        checkBatchSize(ids.size());
+        Set<Long> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, TaskSnapshot> before = new HashMap<>();
+        if (!distinctIds.isEmpty()) {
+            for (TaskSnapshot snapshot : taskRepository.findSnapshotsByIdIn(distinctIds)) {
+                before.put(snapshot.id(), snapshot);
+            }
+        }
+        if (!before.isEmpty()) {
+            taskRepository.updateStatusByIdIn(before.keySet(), status, LocalDateTime.now());
+        }
+
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        for (int index = 0; index < ids.size(); index++) {
+            Long id = ids.get(index);
+            if (before.containsKey(id)) {
+                results.add(BatchItemResult.succeeded(index, id, BatchItemResult.Outcome.UPDATED));
+            } else {
+                results.add(BatchItemResult.failed(index, id, BatchItemResult.Outcome.NOT_FOUND, "Tarea no encontrada: " + id));
+            }
+        }
+        before.values().forEach(snapshot ->
+                eventPublisher.publishEvent(TaskChangedEvent.statusChanged(snapshot, snapshot.withStatus(status))));
+        return BatchResponse.of(results);
     }
 
+    @Transactional
     public void delete(Long id) {
         Task existing = getById(id);
+        TaskSnapshot before = TaskSnapshot.of(existing);
         taskRepository.delete(existing);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(before));
     }
 
     public TaskStatsDto getStats() {
-        long total = taskRepository.count();
-        long inProgress = taskRepository.countByStatus(Status.IN_PROGRESS);
-        long completed = taskRepository.countByStatus(Status.DONE);
-        long overdue = taskRepository.countByDueDateBeforeAndStatusNot(LocalDate.now(), Status.DONE);
-        return new TaskStatsDto(total, inProgress, completed, overdue);
+        return taskStatsStore.snapshot();
+    }
+
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != versionOf(task)) {
+            throw new PreconditionFailedException(
+                    "La tarea fue modificada: version actual " + versionOf(task) + ", esperada " + expectedVersion);
+        }
+    }
+
+    /* Filas anteriores a la columna version pueden tenerla en NULL; se tratan como version 0 */
+    private static long versionOf(Task task) {
+        return task.getVersion() == null ? 0 : task.getVersion();
+    }
+
+    private Specification<Task> specificationFor(TaskFilter filter) {
+        Specification<Task> spec = TaskSpecifications.matching(filter);
+        return filter.hasSearch() ? spec.and(taskSearch.matches(filter.search())) : spec;
+    }
+
+    private void checkBatchSize(int size) {
+        if (size == 0) {
+            throw new BadRequestException("El lote no puede estar vacio");
+        }
+        if (size > maxBatchSize) {
+            throw new BadRequestException("El lote no puede superar " + maxBatchSize + " elementos");
+        }
+    }
+
+    private Map<Long, User> findAssignees(List<CreateTaskRequest> requests) {
+        Set<Long> assigneeIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateTaskRequest::assigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, User> assignees = new HashMap<>();
+        if (!assigneeIds.isEmpty()) {
+            userRepository.findAllById(assigneeIds).forEach(user -> assignees.put(user.getId(), user));
+        }
+        return assignees;
+    }
+
+    private String validate(CreateTaskRequest request, Map<Long, User> assignees) {
+        if (request == null) {
+            return "La tarea es obligatoria";
+        }
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<CreateTaskRequest> violation = violations.iterator().next();
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        if (request.assigneeId() != null && !assignees.containsKey(request.assigneeId())) {
+            return "Usuario no encontrado: " + request.assigneeId();
+        }
+        return null;
     }
 
     private User resolveAssignee(Long assigneeId) {
         if (assigneeId == null) {
             return null;
         }
-        return userRepository.findById(assigneeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuario no encontrado: " + assigneeId));
+        return userService.getById(assigneeId);
     }
-}
\ No newline at end of file
+}
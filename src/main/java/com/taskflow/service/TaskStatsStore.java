@@ -0,0 +1,192 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskStatsDto;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.repository.TaskCountRow;
+import com.taskflow.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Contadores de estadisticas en memoria.
+ * Se cargan con una unica consulta agrupada, se actualizan con cada TaskChangedEvent
+ * confirmado y se reconcilian periodicamente contra la base (y al cambiar el dia,
+ * porque "vencida" depende de la fecha actual).
+ * Los eventos que llegan mientras corre la consulta de una recarga se guardan y se
+ * aplican tambien a los contadores nuevos antes de reemplazar a los viejos; si no, un
+ * cambio confirmado despues de que la consulta tomo su snapshot se perderia hasta la
+ * siguiente reconciliacion. Un cambio confirmado justo antes de la consulta cuyo evento
+ * llega despues de empezar la recarga puede contarse dos veces; la siguiente
+ * reconciliacion lo corrige.
+ */
+@Component
+@RequiredArgsConstructor
+@Lazy(false)
+public class TaskStatsStore {
+
+    private final TaskRepository taskRepository;
+    private final AtomicReference<Counters> counters = new AtomicReference<>();
+    private final AtomicLong version = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final Object monitor = new Object();
+
+    /* Eventos recibidos durante la recarga en curso; null si no hay recarga. Protegido por monitor */
+    private List<TaskChangedEvent> pending;
+
+    public TaskStatsDto snapshot() {
+        Counters current = counters.get();
+        if (current == null || !current.reference.equals(LocalDate.now())) {
+            current = load();
+        }
+        return current.toDto();
+    }
+
+    /* Cambia con cada evento aplicado y cada recarga; se lee antes de snapshot() para armar el ETag */
+    public long version() {
+        return version.get();
+    }
+
+    @Scheduled(
+            initialDelayString = "${taskflow.stats.reconcile-interval-ms:60000}",
+            fixedDelayString = "${taskflow.stats.reconcile-interval-ms:60000}"
+    )
+    public void reconcile() {
+        load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        synchronized (monitor) {
+            if (pending != null) {
+                pending.add(event);
+            }
+            Counters current = counters.get();
+            if (current == null) {
+                return;
+            }
+            current.apply(event);
+        }
+        version.incrementAndGet();
+    }
+
+    private Counters load() {
+        loadLock.lock();
+        try {
+            synchronized (monitor) {
+                pending = new ArrayList<>();
+            }
+            LocalDate today = LocalDate.now();
+            Counters fresh = new Counters(today);
+            for (TaskCountRow row : taskRepository.countGroupedByStatusPriorityAndAssignee(today, Status.DONE)) {
+                fresh.add(row);
+            }
+            synchronized (monitor) {
+                pending.forEach(fresh::apply);
+                counters.set(fresh);
+            }
+            version.incrementAndGet();
+            return fresh;
+        } finally {
+            synchronized (monitor) {
+                pending = null;
+            }
+            loadLock.unlock();
+        }
+    }
+
+    private static final class Counters {
+
+        private final LocalDate reference;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder overdue = new LongAdder();
+        private final LongAdder unassigned = new LongAdder();
+        private final Map<Status, LongAdder> byStatus = new EnumMap<>(Status.class);
+        private final Map<Priority, LongAdder> byPriority = new EnumMap<>(Priority.class);
+        private final ConcurrentMap<Long, LongAdder> byAssignee = new ConcurrentHashMap<>();
+
+        private Counters(LocalDate reference) {
+            this.reference = reference;
+            for (Status status : Status.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+            for (Priority priority : Priority.values()) {
+                byPriority.put(priority, new LongAdder());
+            }
+        }
+
+        private void apply(TaskChangedEvent event) {
+            if (event.before() != null) {
+                add(event.before(), -1);
+            }
+            if (event.after() != null) {
+                add(event.after(), 1);
+            }
+        }
+
+        private void add(TaskSnapshot task, long delta) {
+            add(task.status(), task.priority(), task.assigneeId(), delta, task.isOverdue(reference) ? delta : 0);
+        }
+
+        private void add(TaskCountRow row) {
+            add(row.status(), row.priority(), row.assigneeId(), row.total(), row.overdue());
+        }
+
+        private void add(Status status, Priority priority, Long assigneeId, long count, long overdueCount) {
+            total.add(count);
+            overdue.add(overdueCount);
+            byStatus.get(status).add(count);
+            byPriority.get(priority).add(count);
+            if (assigneeId == null) {
+                unassigned.add(count);
+            } else {
+                byAssignee.computeIfAbsent(assigneeId, id -> new LongAdder()).add(count);
+            }
+        }
+
+        private TaskStatsDto toDto() {
+            Map<Status, Long> statusCounts = new EnumMap<>(Status.class);
+            byStatus.forEach((status, count) -> statusCounts.put(status, count.sum()));
+
+            Map<Priority, Long> priorityCounts = new EnumMap<>(Priority.class);
+            byPriority.forEach((priority, count) -> priorityCounts.put(priority, count.sum()));
+
+            Map<Long, Long> assigneeCounts = new HashMap<>();
+            byAssignee.forEach((assigneeId, count) -> {
+                long sum = count.sum();
+                if (sum > 0) {
+                    assigneeCounts.put(assigneeId, sum);
+                }
+            });
+
+            return new TaskStatsDto(
+                    total.sum(),
+                    statusCounts.get(Status.IN_PROGRESS),
+                    statusCounts.get(Status.DONE),
+                    overdue.sum(),
+                    statusCounts,
+                    priorityCounts,
+                    assigneeCounts,
+                    unassigned.sum()
+            );
+        }
+    }
+}
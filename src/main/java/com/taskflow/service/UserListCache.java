@@ -0,0 +1,68 @@
+package com.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.dto.UserResponse;
+import com.taskflow.event.UserChangedEvent;
+import com.taskflow.event.UserCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Cache de GET /api/users. Guarda la lista de UserResponse (inmutable, sin hashes de
+ * password) con la generacion leida antes de consultar, como TaskDetailCache: cada alta o
+ * cambio confirmado avanza la generacion, asi una lectura que empezo antes del commit y
+ * guarda la lista vieja despues queda vieja en el siguiente acceso. Un cambio de password
+ * no avanza la generacion porque la lista no lo incluye.
+ */
+@Component
+public class UserListCache {
+
+    private static final String KEY = "all";
+
+    private final UserService userService;
+    private final Cache<String, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public UserListCache(
+            UserService userService,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.cache.spec}") String spec) {
+        this.userService = userService;
+        this.cache = Caffeine.from(spec).build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "users");
+    }
+
+    public List<UserResponse> getAll() {
+        long stamp = generation.get();
+        Entry entry = cache.getIfPresent(KEY);
+        if (entry == null || entry.generation() != stamp) {
+            entry = new Entry(stamp, userService.getAll());
+            cache.put(KEY, entry);
+        }
+        return entry.users();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserCreated(UserCreatedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidateAll();
+    }
+
+    private record Entry(long generation, List<UserResponse> users) {
+    }
+}
@@ -1,26 +1,44 @@
 package com.taskflow.service;
 
+import com.taskflow.dto.UserResponse;
+import com.taskflow.event.UserChangedEvent;
+import com.taskflow.event.UserCreatedEvent;
 import com.taskflow.exception.ConflictException;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.model.User;
 import com.taskflow.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Service
+@Observed(name = "taskflow.service")
 @RequiredArgsConstructor
 public class UserService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<User> getAll() {
-        return userRepository.findAll();
+    /*
+     * Carga de UserListCache: se lee del primario (sin readOnly), el cache es compartido por
+     * todos los clientes y no debe quedarse con el estado atrasado de una replica.
+     */
+    @Transactional
+    public List<UserResponse> getAll() {
+        return userRepository.findAllResponses();
     }
 
+    /*
+     * Sin cache: devuelve la entidad de la transaccion en curso (por ejemplo el asignado de
+     * una tarea), que no se comparte entre hilos ni queda con un isActive viejo.
+     */
+    @Transactional
     public User getById(Long id) {
         return userRepository.findById(id)
                 .orElseThrow(()-> new ResourceNotFoundException("Usuario no encontrado:" + id));
@@ -37,13 +55,25 @@ public class UserService {
             user.setIsActive(true);
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserCreatedEvent(saved.getId()));
+        return saved;
     }
 
     public User setActive(Long id, boolean active) {
         User user = getById(id);
         user.setIsActive(active);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+        return saved;
+    }
+
+    /* No publica eventos: ningun cache guarda el hash (UserListCache solo tiene UserResponse) */
+    @Transactional
+    public void updatePasswordHash(Long id, String passwordHash) {
+        User user = getById(id);
+        user.setPasswordHash(passwordHash);
+        userRepository.save(user);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+-- =====================================================
+-- DATOS DE DEMO (solo perfil por defecto, ubicacion db/demo)
+-- =====================================================
+
+/*
+ * Insertar usuarios de ejemplo.
+ * Input: name, email, password_hash (BCrypt hasheado).
+ * Proceso: PostgreSQL inserta filas en users.
+ * Output: 2 usuarios disponibles para asignar tareas.
+ * 
+ * Password hasheado con BCrypt:
+ * "password123" hasheado = $2a$10$slYQmyNdGzin7olVN3p5aOAEzsPmPnm8D4LhATX7H6ghNvlm.LZ6a
+ * "admin456" hasheado = $2a$10$5j2O.l7N8k9pQ1R2S3T4U5V6W7X8Y9Z0aAbBcCdDeEfFgGhHiIj
+ */
+INSERT INTO users (id, name, email, password_hash, is_active) VALUES
+(1, 'Juan Pérez', 'juan@example.com', '$2a$10$slYQmyNdGzin7olVN3p5aOAEzsPmPnm8D4LhATX7H6ghNvlm.LZ6a', true),
+(2, 'María García', 'maria@example.com', '$2a$10$5j2O.l7N8k9pQ1R2S3T4U5V6W7X8Y9Z0aAbBcCdDeEfFgGhHiIj', true)
+ON CONFLICT DO NOTHING;
+
+/*
+ * Insertar tareas de ejemplo asociadas a usuarios.
+ * Input: titulo, descripcion, estado, prioridad, fecha vencimiento, usuario asignado.
+ * Proceso: PostgreSQL inserta filas en tasks, valida FK a users.
+ * Output: tareas visibles en GET /api/tasks.
+ * 
+ * Nota: los IDs de assignee_id son 1 y 2 (los usuarios insertados arriba).
+ * ON CONFLICT DO NOTHING: en una base creada con init.sql estas filas ya existen.
+ */
+INSERT INTO tasks (id, title, description, status, priority, due_date, assignee_id) VALUES
+(1, 'Implementar login', 'Crear endpoint POST /api/auth/login', 'IN_PROGRESS', 'HIGH', '2026-02-20', 1),
+(2, 'Documentar API', 'Escribir Swagger/OpenAPI', 'TODO', 'MEDIUM', '2026-02-25', 2),
+(3, 'Corregir bugs', 'Revisar issues del proyecto', 'TODO', 'CRITICAL', '2026-02-18', 1),
+(4, 'Agregar paginación', 'Implementar limit/offset', 'DONE', 'MEDIUM', '2026-02-19', 2),
+(5, 'Tests unitarios', 'Cobertura 80%+ en TaskService', 'TODO', 'HIGH', '2026-02-28', 1)
+ON CONFLICT DO NOTHING;
+
+/*
+ * Avanzar las secuencias despues de los ids explicitos.
+ * Proceso: setval deja el ultimo valor en el maximo id; el siguiente nextval
+ * devuelve max + 50 y Hibernate usa el bloque (max + 1 .. max + 50).
+ * Output: los ids nuevos no chocan con los datos de demo.
+ */
+SELECT setval('users_id_seq', (SELECT max(id) FROM users));
+SELECT setval('tasks_id_seq', (SELECT max(id) FROM tasks));
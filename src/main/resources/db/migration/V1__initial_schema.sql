@@ -0,0 +1,72 @@
+-- =====================================================
+-- V1: ESQUEMA INICIAL
+-- =====================================================
+
+/*
+ * Tablas e indices tal como los creaba el init.sql original, sin cambios.
+ * Una base existente creada con ese script no tiene flyway_schema_history:
+ * baseline-on-migrate la marca como version 1 y Flyway aplica solo V2 en
+ * adelante. Por eso todo cambio posterior del esquema va en su propia
+ * migracion, y las que tocan objetos que ddl-auto=update pudo haber creado
+ * usan IF NOT EXISTS / CREATE OR REPLACE.
+ */
+
+/*
+ * Crear tabla "users" con estructura de Usuario.
+ * Input: columnas name, email (unique), password_hash, is_active, timestamps.
+ * Proceso: PostgreSQL crea tabla con constraints (PK, UNIQUE, NOT NULL).
+ * Output: tabla users lista para inserciones.
+ */
+CREATE TABLE users (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) UNIQUE NOT NULL,
+    password_hash VARCHAR(255) NOT NULL,
+    is_active BOOLEAN DEFAULT true,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+/*
+ * Crear tabla "tasks" con relacion a users.
+ * Input: title, description, status (enum), priority (enum), dueDate, assignee_id (FK).
+ * Proceso: PostgreSQL crea tabla con FK a users, enums stored as VARCHAR.
+ * Output: tabla tasks lista con relacion a users.
+ * 
+ * Nota: status y priority se almacenan como VARCHAR porque PostgreSQL
+ * enums nativos complican la migracion de Hibernate. Usamos strings.
+ */
+CREATE TABLE tasks (
+    id BIGSERIAL PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description TEXT,
+    status VARCHAR(50) NOT NULL DEFAULT 'TODO',
+    priority VARCHAR(50) NOT NULL DEFAULT 'MEDIUM',
+    due_date DATE,
+    assignee_id BIGINT REFERENCES users(id) ON DELETE SET NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- =====================================================
+-- INDICES PARA OPTIMIZAR CONSULTAS
+-- =====================================================
+
+/*
+ * Indice en assignee_id para filtrado rapido por usuario.
+ * Input: nombre tabla + columna.
+ * Proceso: PostgreSQL crea indice B-tree.
+ * Output: consultas "WHERE assignee_id = X" ejecutan mas rapido.
+ */
+CREATE INDEX idx_tasks_assignee_id ON tasks(assignee_id);
+
+/*
+ * Indice en status para filtrado rapido por estado.
+ * Output: consultas "WHERE status = 'TODO'" ejecutan mas rapido.
+ */
+CREATE INDEX idx_tasks_status ON tasks(status);
+
+/*
+ * Indice en priority para filtrado rapido por prioridad.
+ */
+CREATE INDEX idx_tasks_priority ON tasks(priority);
@@ -0,0 +1,33 @@
+-- =====================================================
+-- V2: INDICES DE RENDIMIENTO
+-- =====================================================
+
+/*
+ * Se crean con CONCURRENTLY para no bloquear escrituras en tablas grandes
+ * (V2__performance_indexes.sql.conf desactiva la transaccion de Flyway,
+ * que CONCURRENTLY no admite). IF NOT EXISTS permite reintentar la migracion
+ * si falla a mitad de camino; un indice que quedo INVALID hay que borrarlo a mano.
+ */
+
+/*
+ * Indice parcial de tareas abiertas por estado y vencimiento.
+ * Input: status + due_date, solo filas con status <> 'DONE'.
+ * Proceso: las tareas terminadas (la mayoria en una base con historia) no
+ * entran al indice, que queda chico y se mantiene barato.
+ * Output: "WHERE status <> 'DONE' AND due_date < CURRENT_DATE" (vencidas) y
+ * "WHERE status = 'TODO' AND due_date BETWEEN ? AND ?" leen solo tareas abiertas.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_open_status_due
+    ON tasks (status, due_date)
+    WHERE status <> 'DONE';
+
+/*
+ * Indice de email sin distinguir mayusculas.
+ * Input: lower(email).
+ * Proceso: el login y el alta de usuarios buscan con lower(email) = lower(?).
+ * Output: busqueda por email con Index Scan aunque el usuario escriba
+ * "Juan@Example.com". No es UNIQUE para no fallar en bases que ya tengan
+ * emails repetidos con distinto uso de mayusculas.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email_lower
+    ON users (lower(email));
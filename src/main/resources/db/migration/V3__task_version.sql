@@ -0,0 +1,20 @@
+-- =====================================================
+-- V3: VERSION DE TAREAS (BLOQUEO OPTIMISTA)
+-- =====================================================
+
+/*
+ * Agregar la columna "version" a tasks.
+ * Input: tabla tasks del esquema inicial (sin version), o una base donde
+ * ddl-auto=update ya la agrego como columna nullable.
+ * Proceso: IF NOT EXISTS no falla si la columna ya existe; las filas con NULL
+ * pasan a 0 antes de exigir NOT NULL. El UPDATE condicional de la aplicacion
+ * ("WHERE version = ?") nunca coincide con NULL.
+ * Output: version BIGINT NOT NULL DEFAULT 0, el contador de @Version que se
+ * expone como ETag.
+ */
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT;
+
+UPDATE tasks SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN version SET NOT NULL;
@@ -0,0 +1,45 @@
+-- =====================================================
+-- V4: BUSQUEDA FULL-TEXT DE TAREAS
+-- =====================================================
+
+/*
+ * Funciones e indice que usa FullTextTaskSearch (taskflow.search.mode=fulltext,
+ * el modo por defecto). V4__task_search.sql.conf desactiva la transaccion de
+ * Flyway para crear el indice con CONCURRENTLY sin bloquear escrituras.
+ * CREATE OR REPLACE e IF NOT EXISTS permiten reintentar la migracion y aplicarla
+ * sobre bases que ya tenian estos objetos.
+ */
+
+/*
+ * Documento de busqueda de una tarea.
+ * Input: titulo y descripcion.
+ * Proceso: to_tsvector con configuracion 'simple' (sin stemming, sirve para
+ * espanol e ingles y para busqueda por prefijo).
+ * Output: tsvector usado por el indice GIN y por las funciones de abajo.
+ * Es IMMUTABLE para poder indexarla; PostgreSQL la expande en linea.
+ */
+CREATE OR REPLACE FUNCTION task_search_document(title TEXT, description TEXT) RETURNS tsvector AS $$
+    SELECT to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(description, ''))
+$$ LANGUAGE sql IMMUTABLE;
+
+/*
+ * Coincidencia y relevancia de una busqueda.
+ * Input: titulo, descripcion y tsquery ya armado por la aplicacion (ej. 'dep:* & pro:*').
+ * Output: boolean (WHERE) y real (ORDER BY ... DESC).
+ */
+CREATE OR REPLACE FUNCTION task_search_matches(title TEXT, description TEXT, query TEXT) RETURNS boolean AS $$
+    SELECT task_search_document(title, description) @@ to_tsquery('simple', query)
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION task_search_rank(title TEXT, description TEXT, query TEXT) RETURNS real AS $$
+    SELECT ts_rank(task_search_document(title, description), to_tsquery('simple', query))
+$$ LANGUAGE sql IMMUTABLE;
+
+/*
+ * Indice GIN sobre el documento de busqueda.
+ * Proceso: PostgreSQL lo mantiene en cada INSERT/UPDATE de title o description.
+ * Output: "WHERE task_search_matches(title, description, ?)" usa un
+ * Bitmap Index Scan en lugar de recorrer toda la tabla.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_search
+    ON tasks USING GIN (task_search_document(title, description));
@@ -0,0 +1,23 @@
+-- =====================================================
+-- V5: OUTBOX TRANSACCIONAL DE TAREAS
+-- =====================================================
+
+/*
+ * Crear tabla "task_outbox" (outbox transaccional de cambios de tareas).
+ * Input: task_id, tipo de evento, payload JSON, intentos y proximo intento.
+ * Proceso: la aplicacion inserta una fila en la misma transaccion que cada cambio
+ * de tarea; el dispatcher la toma con FOR UPDATE SKIP LOCKED, la envia y la borra.
+ * Sin FK a tasks: el evento DELETED debe sobrevivir al borrado de la tarea.
+ * IF NOT EXISTS: en bases que corrieron con ddl-auto=update la tabla ya existe.
+ * Output: cola durable de eventos pendientes de publicar.
+ */
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    task_id BIGINT NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(500)
+);
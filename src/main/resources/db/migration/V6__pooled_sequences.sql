@@ -0,0 +1,16 @@
+-- =====================================================
+-- V6: SECUENCIAS PARA EL OPTIMIZADOR POOLED
+-- =====================================================
+
+/*
+ * Incrementar las secuencias de id de a 50.
+ * Input: secuencias creadas por BIGSERIAL (users y tasks en V1, task_outbox en V5).
+ * Proceso: Hibernate reserva bloques de 50 ids por llamada a nextval
+ * (allocationSize = 50 en Task, User y OutboxEvent), lo que permite agrupar los INSERT en
+ * lotes JDBC. La validacion del esquema (ddl-auto=validate) exige que coincidan.
+ * ALTER SEQUENCE conserva el ultimo valor: los ids existentes no se reutilizan.
+ * Output: secuencias alineadas con el optimizador "pooled" de Hibernate.
+ */
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tasks_id_seq INCREMENT BY 50;
+ALTER SEQUENCE task_outbox_id_seq INCREMENT BY 50;
@@ -0,0 +1,60 @@
+-- =====================================================
+-- V7: INDICES DE LOS FILTROS Y LA PAGINACION DE TAREAS
+-- =====================================================
+
+/*
+ * Reemplaza los indices de una columna del esquema inicial por indices
+ * compuestos cuyos prefijos cubren cada filtro de GET /api/tasks y el orden
+ * created_at DESC. Como V2, se crean con CONCURRENTLY (ver
+ * V7__task_query_indexes.sql.conf) e IF NOT EXISTS para poder reintentar.
+ */
+
+/*
+ * Indice compuesto para filtrado por usuario asignado (solo o junto a estado).
+ * Input: assignee_id + status + created_at.
+ * Proceso: PostgreSQL crea indice B-tree; el prefijo assignee_id sirve tambien
+ * para "WHERE assignee_id = X" sin status.
+ * Output: "WHERE assignee_id = X AND status = 'TODO' ORDER BY created_at DESC"
+ * se resuelve con un solo recorrido del indice.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_assignee_status_created
+    ON tasks (assignee_id, status, created_at DESC);
+
+/*
+ * Indice compuesto para filtrado por estado (solo o junto a prioridad).
+ * Output: "WHERE status = 'TODO' [AND priority = 'HIGH'] ORDER BY created_at DESC"
+ * ejecuta sin ordenar en memoria.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_status_priority_created
+    ON tasks (status, priority, created_at DESC);
+
+/*
+ * Indice compuesto para filtrado por prioridad sin estado.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_priority_created
+    ON tasks (priority, created_at DESC);
+
+/*
+ * Indice en due_date para filtros por rango de vencimiento (dueFrom / dueTo).
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_due_date
+    ON tasks (due_date);
+
+/*
+ * Indice para paginacion por cursor (keyset) y listados sin filtros.
+ * Input: created_at + id en el mismo orden que ORDER BY created_at DESC, id DESC.
+ * Output: "WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT n"
+ * lee solo n filas sin importar la profundidad de la pagina.
+ */
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tasks_created_at_id
+    ON tasks (created_at DESC, id DESC);
+
+/*
+ * Borrar los indices de una columna del esquema inicial.
+ * Proceso: recien despues de crear los compuestos, para que las consultas
+ * siempre tengan un indice; sus columnas quedan cubiertas por los prefijos de arriba.
+ * Output: menos indices que mantener en cada INSERT/UPDATE de tasks.
+ */
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_assignee_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_status;
+DROP INDEX CONCURRENTLY IF EXISTS idx_tasks_priority;
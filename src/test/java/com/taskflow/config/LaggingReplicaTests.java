@@ -0,0 +1,123 @@
+package com.taskflow.config;
+
+import com.taskflow.dto.TaskFilter;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.TaskQueryCache;
+import com.taskflow.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Primario y replica son dos bases H2 en memoria. La replica es una copia del primario
+ * tomada en setUp: lo que se escribe despues solo existe en el primario.
+ */
+@SpringBootTest
+class LaggingReplicaTests {
+
+    private static final DataSource PRIMARY =
+            new DriverManagerDataSource("jdbc:h2:mem:lagging_primary;DB_CLOSE_DELAY=-1", "sa", "");
+    private static final DataSource REPLICA =
+            new DriverManagerDataSource("jdbc:h2:mem:lagging_replica;DB_CLOSE_DELAY=-1", "sa", "");
+
+    private static final TaskFilter NO_FILTER = new TaskFilter(null, null, null, null, null, null);
+
+    /* El ruteo no se registra como bean: sin chequeo de lag programado, la replica queda siempre disponible */
+    @TestConfiguration
+    static class RoutingConfig {
+
+        @Bean
+        @Primary
+        DataSource dataSource() {
+            ReplicaRoutingDataSource.Replica replica = new ReplicaRoutingDataSource.Replica("replica-1", REPLICA);
+            replica.update(0, true);
+            return new LazyConnectionDataSourceProxy(
+                    new ReplicaRoutingDataSource(PRIMARY, List.of(replica), Duration.ofSeconds(5)));
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskQueryCache taskQueryCache;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        saveTask("Replicada");
+        copyPrimaryToReplica();
+        taskQueryCache.invalidateAll();
+    }
+
+    @Test
+    void queryCacheIsFilledFromThePrimaryWhenTheReplicaLags() {
+        saveTask("Solo en el primario");
+
+        List<String> fromReplica = titles(taskService.getTasks(NO_FILTER, PageRequest.of(0, 20)).getContent());
+        List<String> cached = titles(taskQueryCache.getTasks(NO_FILTER, PageRequest.of(0, 20)).value().getContent());
+
+        assertThat(fromReplica).containsExactly("Replicada");
+        assertThat(cached).containsExactlyInAnyOrder("Replicada", "Solo en el primario");
+    }
+
+    private void saveTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(Status.TODO);
+        task.setPriority(Priority.MEDIUM);
+        taskRepository.save(task);
+    }
+
+    private static List<String> titles(List<TaskResponse> tasks) {
+        return tasks.stream().map(TaskResponse::title).toList();
+    }
+
+    private static void copyPrimaryToReplica() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection connection = PRIMARY.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT NOPASSWORDS NOSETTINGS")) {
+            while (rs.next()) {
+                script.add(rs.getString(1));
+            }
+        }
+        try (Connection connection = REPLICA.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : script) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskflow.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTests {
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:primary");
+    private final ReplicaRoutingDataSource.Replica first =
+            new ReplicaRoutingDataSource.Replica("replica-1", new DriverManagerDataSource("jdbc:h2:mem:replica1"));
+    private final ReplicaRoutingDataSource.Replica second =
+            new ReplicaRoutingDataSource.Replica("replica-2", new DriverManagerDataSource("jdbc:h2:mem:replica2"));
+    private final ReplicaRoutingDataSource routing =
+            new ReplicaRoutingDataSource(primary, List.of(first, second), Duration.ofSeconds(5));
+
+    @BeforeEach
+    void setUp() {
+        first.update(0, true);
+        second.update(0, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWrites.clear();
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        assertThat(routing.determineTarget()).isSameAs(primary);
+    }
+
+    @Test
+    void readOnlyTransactionsAlternateBetweenReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        DataSource a = routing.determineTarget();
+        DataSource b = routing.determineTarget();
+
+        assertThat(List.of(a, b)).containsExactlyInAnyOrder(first.dataSource(), second.dataSource());
+    }
+
+    @Test
+    void skipsReplicaOutOfRotation() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        first.update(30, false);
+
+        assertThat(routing.determineTarget()).isSameAs(second.dataSource());
+        assertThat(routing.determineTarget()).isSameAs(second.dataSource());
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsAvailable() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        first.update(30, false);
+        second.update(Double.NaN, false);
+
+        assertThat(routing.determineTarget()).isSameAs(primary);
+    }
+
+    @Test
+    void readYourWritesForcesPrimary() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites.requirePrimary();
+
+        assertThat(routing.determineTarget()).isSameAs(primary);
+    }
+
+    @Test
+    void parsesLsn() {
+        assertThat(ReplicaRoutingDataSource.parseLsn("0/16B3748")).isEqualTo(0x16B3748L);
+        assertThat(ReplicaRoutingDataSource.parseLsn("1/0")).isEqualTo(1L << 32);
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskflow.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsABurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryConsume(1, 0)).isZero();
+        }
+        assertThat(bucket.tryConsume(1, 0)).isBetween(SECOND / 10, SECOND / 10 + 1);
+    }
+
+    @Test
+    void refillsWithElapsedTimeWithoutExceedingCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+        assertThat(bucket.tryConsume(5, 0)).isZero();
+
+        assertThat(bucket.tryConsume(3, SECOND / 2)).isZero();
+        assertThat(bucket.tryConsume(3, SECOND / 2)).isPositive();
+        assertThat(bucket.tryConsume(5, 10 * SECOND)).isZero();
+        assertThat(bucket.tryConsume(1, 10 * SECOND)).isPositive();
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        TokenBucket bucket = new TokenBucket(10, 5, 0);
+
+        assertThat(bucket.tryConsume(6, 0)).isPositive();
+        assertThat(bucket.tryConsume(5, 0)).isZero();
+    }
+}
@@ -0,0 +1,219 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.CursorPage;
+import com.taskflow.dto.TaskResponse;
+import com.taskflow.dto.UserResponse;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.TaskQueryCache;
+import com.taskflow.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class TaskControllerStatementCountTests {
+
+    private static final int USERS = 5;
+    private static final int TASKS = 120;
+
+    @Autowired
+    private TaskController taskController;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskQueryCache taskQueryCache;
+
+    private Statistics statistics;
+
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("Usuario " + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setPasswordHash("hash");
+            user.setIsActive(true);
+            users.add(userRepository.save(user));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Tarea " + i);
+            task.setStatus(Status.TODO);
+            task.setPriority(Priority.MEDIUM);
+            task.setAssignee(users.get(i % USERS));
+            tasks.add(task);
+        }
+        taskId = taskRepository.saveAll(tasks).get(0).getId();
+        taskQueryCache.invalidateAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    void getTasksRunsPageAndCountQueriesOnlyWhateverThePageSize(int size) {
+        Page<TaskResponse> page = taskController
+                .getTasks(null, null, null, null, null, null, PageRequest.of(0, size))
+                .getBody();
+
+        assertThat(page.getContent()).hasSize(size).allSatisfy(task -> assertThat(task.assignee()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getTasksServesARepeatedPageFromTheQueryCache() {
+        ResponseEntity<Page<TaskResponse>> first = taskController
+                .getTasks(Status.TODO, null, null, null, null, null, PageRequest.of(0, 20));
+        statistics.clear();
+
+        ResponseEntity<Page<TaskResponse>> second = taskController
+                .getTasks(Status.TODO, null, null, null, null, null, PageRequest.of(0, 20));
+
+        assertThat(second.getBody().getContent()).isEqualTo(first.getBody().getContent());
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void statusChangeInvalidatesTheCachedPage() {
+        ResponseEntity<Page<TaskResponse>> before = taskController
+                .getTasks(Status.TODO, null, null, null, null, null, PageRequest.of(0, 20));
+
+        taskService.updateStatus(taskId, Status.DONE, null);
+        ResponseEntity<Page<TaskResponse>> after = taskController
+                .getTasks(Status.TODO, null, null, null, null, null, PageRequest.of(0, 20));
+
+        assertThat(after.getHeaders().getETag()).isNotEqualTo(before.getHeaders().getETag());
+        assertThat(after.getBody().getTotalElements()).isEqualTo(before.getBody().getTotalElements() - 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 100})
+    void getTasksByCursorRunsASingleQueryWhateverThePageSize(int size) {
+        CursorPage<TaskResponse> page = taskController
+                .getTasksByCursor(null, null, null, null, null, null, "", null, size)
+                .getBody();
+
+        assertThat(page.content()).hasSize(size).allSatisfy(task -> assertThat(task.assignee()).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTasksByCursorCombinesStatusAssigneeAndDueRangeInASingleQuery() {
+        List<Task> tasks = taskRepository.findAll(Sort.by("id"));
+        Long assigneeId = tasks.get(0).getAssignee().getId();
+        /* 0, 5, 10 y 15 son del mismo usuario; 1 es de otro */
+        schedule(tasks.get(0), Status.IN_PROGRESS, LocalDate.of(2026, 3, 1));
+        schedule(tasks.get(5), Status.IN_PROGRESS, LocalDate.of(2026, 3, 15));
+        schedule(tasks.get(10), Status.IN_PROGRESS, LocalDate.of(2026, 4, 2));
+        schedule(tasks.get(15), Status.TODO, LocalDate.of(2026, 3, 15));
+        schedule(tasks.get(1), Status.IN_PROGRESS, LocalDate.of(2026, 3, 15));
+        taskRepository.saveAll(tasks);
+        statistics.clear();
+
+        CursorPage<TaskResponse> page = taskController
+                .getTasksByCursor(Status.IN_PROGRESS, null, assigneeId,
+                        LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), null, "", null, 20)
+                .getBody();
+
+        assertThat(page.content()).extracting(TaskResponse::title).containsExactlyInAnyOrder("Tarea 0", "Tarea 5");
+        assertThat(page.content()).allSatisfy(task -> assertThat(task.assignee().id()).isEqualTo(assigneeId));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTasksByCursorRejectsEnvelope() {
+        assertThatThrownBy(() -> taskController
+                .getTasksByCursor(null, null, null, null, null, null, "", "normalized", 20))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void getTaskByIdLoadsTheAssigneeInTheSameQuery() {
+        TaskResponse task = taskController.getTaskById(taskId).getBody();
+
+        assertThat(task.assignee()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getTaskFieldsReturnsOnlyTheRequestedFields() {
+        Page<Map<String, Object>> page = taskController
+                .getTaskFields("title,status,assigneeId", null, null, null, null, null, null, null, null, PageRequest.of(0, 20))
+                .getBody();
+
+        assertThat(page.getContent()).hasSize(20)
+                .allSatisfy(task -> assertThat(task).containsOnlyKeys("id", "title", "status", "assigneeId"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getTaskFieldsRejectsCursorAndEnvelope() {
+        assertThatThrownBy(() -> taskController
+                .getTaskFields("title", null, null, null, null, null, null, "", null, PageRequest.of(0, 20)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> taskController
+                .getTaskFields("title", null, null, null, null, null, null, null, "normalized", PageRequest.of(0, 20)))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void getTaskFieldsByIdBuildsTheAssigneeFromTheSameQuery() {
+        Map<String, Object> task = taskController.getTaskFieldsById(taskId, "title,assignee").getBody();
+
+        assertThat(task).containsOnlyKeys("id", "title", "assignee");
+        assertThat(task.get("assignee")).isInstanceOf(UserResponse.class);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static void schedule(Task task, Status status, LocalDate dueDate) {
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskflow.controller;
+
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/* El stream SSE se lee del servidor real: los eventos se escriben desde los hilos de envio */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskEventStreamTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void lastEventIdFromAnotherBootGetsReset() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            try (Stream<String> stream = open("0a1b2c3d-42")) {
+                assertThat(nextEvent(stream.iterator()).name()).isEqualTo("RESET");
+            }
+        });
+    }
+
+    @Test
+    void lastEventIdAheadOfTheCurrentSequenceGetsReset() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            String current;
+            try (Stream<String> stream = open(null)) {
+                createTask("Tarea observada");
+                current = nextEvent(stream.iterator()).id();
+            }
+            String boot = current.substring(0, current.lastIndexOf('-'));
+            long sequence = Long.parseLong(current.substring(current.lastIndexOf('-') + 1));
+
+            try (Stream<String> stream = open(boot + "-" + (sequence + 100))) {
+                assertThat(nextEvent(stream.iterator()).name()).isEqualTo("RESET");
+            }
+        });
+    }
+
+    @Test
+    void lastEventIdFromThisBootReplaysTheMissedEvents() {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            String seen;
+            String missed;
+            try (Stream<String> stream = open(null)) {
+                Iterator<String> lines = stream.iterator();
+                createTask("Tarea vista");
+                seen = nextEvent(lines).id();
+                createTask("Tarea perdida");
+                missed = nextEvent(lines).id();
+            }
+
+            try (Stream<String> stream = open(seen)) {
+                SseEvent replayed = nextEvent(stream.iterator());
+                assertThat(replayed.name()).isEqualTo("CREATED");
+                assertThat(replayed.id()).isEqualTo(missed);
+            }
+        });
+    }
+
+    private void createTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(Status.TODO);
+        task.setPriority(Priority.MEDIUM);
+        taskService.create(task, null);
+    }
+
+    private Stream<String> open(String lastEventId) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/tasks/events"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofLines()).body();
+    }
+
+    /* Siguiente evento con nombre; los comentarios (keepalive) se saltean */
+    private static SseEvent nextEvent(Iterator<String> lines) {
+        String id = null;
+        String name = null;
+        while (lines.hasNext()) {
+            String line = lines.next();
+            if (line.isEmpty()) {
+                if (name != null) {
+                    return new SseEvent(id, name);
+                }
+                id = null;
+            } else if (line.startsWith("id:")) {
+                id = line.substring(3).trim();
+            } else if (line.startsWith("event:")) {
+                name = line.substring(6).trim();
+            }
+        }
+        throw new IllegalStateException("El stream termino sin eventos");
+    }
+
+    private record SseEvent(String id, String name) {
+    }
+}
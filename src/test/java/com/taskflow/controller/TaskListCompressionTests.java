@@ -0,0 +1,117 @@
+package com.taskflow.controller;
+
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.TaskQueryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/* La compresion la hace Tomcat: hace falta el servidor real, no basta con llamar al controller */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.compression.enabled=true",
+                "server.compression.min-response-size=1KB",
+                "server.compression.mime-types=application/json,application/cbor,application/x-jackson-smile"
+        }
+)
+class TaskListCompressionTests {
+
+    private static final int TASKS = 50;
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskQueryCache taskQueryCache;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Tarea comprimida " + i);
+            task.setDescription("Descripcion de la tarea " + i);
+            task.setStatus(Status.TODO);
+            task.setPriority(Priority.MEDIUM);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        taskQueryCache.invalidateAll();
+    }
+
+    @Test
+    void gzipNegotiatedListIsCompressedAndCarriesAWeakETag() throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = get("/api/tasks?size=" + TASKS);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(response.headers().firstValue("ETag")).hasValueSatisfying(etag -> assertThat(etag).startsWith("W/\""));
+        assertThat(varyTokens(response)).contains("Accept");
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            assertThat(new String(body.readAllBytes(), StandardCharsets.UTF_8)).contains("Tarea comprimida 0");
+        }
+    }
+
+    @Test
+    void weakETagStillAnswersNotModified() throws IOException, InterruptedException {
+        String etag = get("/api/tasks?size=" + TASKS).headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri("/api/tasks?size=" + TASKS))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        assertThat(response.statusCode()).isEqualTo(304);
+    }
+
+    private HttpResponse<InputStream> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(uri(path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip")
+                .build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static List<String> varyTokens(HttpResponse<?> response) {
+        return response.headers().allValues("Vary").stream()
+                .flatMap(value -> Arrays.stream(value.split(",")))
+                .map(String::trim)
+                .toList();
+    }
+}
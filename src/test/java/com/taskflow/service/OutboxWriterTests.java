@@ -0,0 +1,51 @@
+package com.taskflow.service;
+
+import com.taskflow.model.OutboxEvent;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.model.Task;
+import com.taskflow.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxWriterTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void writesOneOutboxRowPerCommittedChange() {
+        Task task = new Task();
+        task.setTitle("Tarea con outbox");
+        task.setStatus(Status.TODO);
+        task.setPriority(Priority.HIGH);
+        Task created = taskService.create(task, null);
+
+        taskService.updateStatus(created.getId(), Status.DONE, null);
+
+        List<OutboxEvent> events = outboxEventRepository.findAll().stream()
+                .sorted((a, b) -> a.getId().compareTo(b.getId()))
+                .toList();
+        assertThat(events).extracting(OutboxEvent::getEventType).containsExactly("CREATED", "STATUS_CHANGED");
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getTaskId()).isEqualTo(created.getId());
+            assertThat(event.getAttempts()).isZero();
+        });
+        assertThat(events.get(1).getPayload()).contains("\"status\":\"DONE\"");
+    }
+}
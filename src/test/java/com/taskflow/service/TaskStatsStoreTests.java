@@ -0,0 +1,39 @@
+package com.taskflow.service;
+
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.Priority;
+import com.taskflow.model.Status;
+import com.taskflow.repository.TaskCountRow;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskStatsStoreTests {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TaskStatsStore store = new TaskStatsStore(taskRepository);
+
+    @Test
+    void reconcileKeepsAChangeCommittedWhileTheCountQueryRuns() {
+        when(taskRepository.countGroupedByStatusPriorityAndAssignee(any(), any()))
+                .thenReturn(List.of(new TaskCountRow(Status.TODO, Priority.MEDIUM, 1L, 2L, 0L)));
+        assertThat(store.snapshot().total()).isEqualTo(2);
+
+        /* La consulta ve 2 tareas; la tercera se confirma despues de su snapshot, antes del reemplazo */
+        when(taskRepository.countGroupedByStatusPriorityAndAssignee(any(), any())).thenAnswer(invocation -> {
+            store.onTaskChanged(TaskChangedEvent.created(new TaskSnapshot(3L, Status.TODO, Priority.HIGH, 1L, null)));
+            return List.of(new TaskCountRow(Status.TODO, Priority.MEDIUM, 1L, 2L, 0L));
+        });
+        store.reconcile();
+
+        assertThat(store.snapshot().total()).isEqualTo(3);
+        assertThat(store.snapshot().byPriority().get(Priority.HIGH)).isEqualTo(1);
+    }
+}